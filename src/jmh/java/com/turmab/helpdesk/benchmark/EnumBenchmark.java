@@ -0,0 +1,48 @@
+package com.turmab.helpdesk.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.turmab.helpdesk.domain.enums.Perfil;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+
+/**
+ * Conversão dos códigos armazenados/recebidos para os enums do domínio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumBenchmark {
+
+	@Param({ "0", "2" })
+	private Integer codigo;
+
+	@Benchmark
+	public Status status() {
+		return Status.toEnum(codigo);
+	}
+
+	@Benchmark
+	public Prioridade prioridade() {
+		return Prioridade.toEnum(codigo);
+	}
+
+	@Benchmark
+	public Perfil perfil() {
+		return Perfil.toEnum(codigo);
+	}
+}
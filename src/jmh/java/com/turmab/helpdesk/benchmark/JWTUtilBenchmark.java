@@ -0,0 +1,128 @@
+package com.turmab.helpdesk.benchmark;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.turmab.helpdesk.domain.enums.Perfil;
+import com.turmab.helpdesk.security.JWTUtil;
+import com.turmab.helpdesk.security.UserSS;
+
+/**
+ * Geração e validação de tokens, executadas no login e em toda requisição autenticada.
+ * <p>
+ * Os benchmarks sem sufixo repetem o mesmo token e medem o caminho com o token já no
+ * cache de tokens verificados. Os terminados em {@code SemCache} usam uma instância com
+ * o cache desligado e um token diferente a cada invocação, medindo a verificação completa
+ * da assinatura (primeira requisição de cada token).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTUtilBenchmark {
+
+	@Param({ "false", "true" })
+	private boolean claimsEnabled;
+
+	private JWTUtil jwtUtil;
+
+	private UserSS user;
+
+	private String token;
+
+	/** Instância com o cache de tokens desligado (tamanho máximo 0). */
+	private JWTUtil jwtUtilSemCache;
+
+	/** Tokens distintos, percorridos em ordem pelos benchmarks sem cache. */
+	private String[] tokensFrios;
+
+	private int proximo;
+
+	@Setup
+	public void setup() {
+		jwtUtil = novoJwtUtil(10000L);
+		jwtUtilSemCache = novoJwtUtil(0L);
+
+		user = new UserSS(1, "bill@mail.com", null, EnumSet.of(Perfil.ADMIN, Perfil.TECNICO));
+		token = jwtUtil.generateToken(user);
+
+		// Tokens de usuários diferentes: o conteúdo (e a assinatura) muda em cada um
+		tokensFrios = new String[1 << 16];
+		for (int i = 0; i < tokensFrios.length; i++) {
+			tokensFrios[i] = jwtUtil.generateToken(
+					new UserSS(i, "usuario" + i + "@mail.com", null, EnumSet.of(Perfil.TECNICO)));
+		}
+	}
+
+	private JWTUtil novoJwtUtil(long tokenCacheMaxSize) {
+		JWTUtil util = new JWTUtil();
+		ReflectionTestUtils.setField(util, "secret", "senhaExtremamenteSecreta");
+		ReflectionTestUtils.setField(util, "expiration", 86400000L);
+		ReflectionTestUtils.setField(util, "claimsEnabled", claimsEnabled);
+		ReflectionTestUtils.setField(util, "claimsMaxAge", 900000L);
+		ReflectionTestUtils.setField(util, "tokenCacheMaxSize", tokenCacheMaxSize);
+		util.init();
+		return util;
+	}
+
+	private String proximoTokenFrio() {
+		proximo = (proximo + 1) & (tokensFrios.length - 1);
+		return tokensFrios[proximo];
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken(user);
+	}
+
+	@Benchmark
+	public boolean tokenValido() {
+		return jwtUtil.tokenValido(token);
+	}
+
+	@Benchmark
+	public String getUsername() {
+		return jwtUtil.getUsername(token);
+	}
+
+	@Benchmark
+	public UserSS getUserFromClaims() {
+		return jwtUtil.getUserFromClaims(jwtUtil.parse(token));
+	}
+
+	@Benchmark
+	public boolean tokenValidoSemCache() {
+		return jwtUtilSemCache.tokenValido(proximoTokenFrio());
+	}
+
+	@Benchmark
+	public String getUsernameSemCache() {
+		return jwtUtilSemCache.getUsername(proximoTokenFrio());
+	}
+
+	@Benchmark
+	public UserSS getUserFromClaimsSemCache() {
+		return jwtUtilSemCache.getUserFromClaims(jwtUtilSemCache.parse(proximoTokenFrio()));
+	}
+
+	@Benchmark
+	public boolean tokenMalformado() {
+		return jwtUtil.tokenValido("nao-e-um-token");
+	}
+}
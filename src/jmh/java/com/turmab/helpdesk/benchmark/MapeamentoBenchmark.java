@@ -0,0 +1,64 @@
+package com.turmab.helpdesk.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.dto.ClienteDTO;
+import com.turmab.helpdesk.domain.enums.Perfil;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+
+/**
+ * Conversões entre entidades e DTOs feitas a cada resposta da API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+	private Chamado chamado;
+
+	private Cliente cliente;
+
+	@Setup
+	public void setup() {
+		Tecnico tecnico = new Tecnico(1, "Bill Gates", "76504577709", "bill@mail.com", "123");
+		tecnico.addPerfil(Perfil.ADMIN);
+		cliente = new Cliente(2, "Linus Torvalds", "70511744013", "linus@mail.com", "123");
+		chamado = new Chamado(1, Prioridade.MEDIA, Status.ANDAMENTO, "Chamado 01", "primeiro chamado",
+				tecnico, cliente);
+	}
+
+	@Benchmark
+	public ChamadoDTO chamadoDTO() {
+		return new ChamadoDTO(chamado);
+	}
+
+	@Benchmark
+	public ClienteDTO clienteDTO() {
+		return new ClienteDTO(cliente);
+	}
+
+	@Benchmark
+	public Set<Perfil> getPerfis() {
+		return cliente.getPerfis();
+	}
+}
@@ -0,0 +1,77 @@
+package com.turmab.helpdesk.config;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Métricas de taxa de acerto do cache de segundo nível do Hibernate.
+ *
+ * <p>
+ * Com <code>hibernate.generate_statistics=true</code> o Spring Boot já publica os contadores
+ * <code>hibernate.second.level.cache.requests</code> e <code>hibernate.query.cache.requests</code>
+ * (tag <code>result=hit|miss</code>). Esta configuração adiciona o gauge
+ * <code>hibernate.cache.hit.ratio</code>, de 0 a 1, por região (<code>pessoa</code>)
+ * e para o cache de consultas (<code>region=query</code>),
+ * para acompanhar o aproveitamento sem calcular a razão no painel.
+ * </p>
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    /** Regiões do cache de segundo nível acompanhadas. */
+    private static final String[] REGIOES = { "pessoa" };
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Registra os gauges de taxa de acerto.
+     */
+    @PostConstruct
+    public void init() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String regiao : REGIOES) {
+            Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> taxaRegiao(s, regiao))
+                 .description("Taxa de acerto do cache de segundo nível")
+                 .tag("region", regiao)
+                 .register(meterRegistry);
+        }
+        Gauge.builder("hibernate.cache.hit.ratio", statistics,
+                      s -> taxa(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()))
+             .description("Taxa de acerto do cache de consultas")
+             .tag("region", "query")
+             .register(meterRegistry);
+    }
+
+    /**
+     * Calcula a taxa de acerto de uma região.
+     *
+     * @return a taxa, ou NaN se a região não existir ou ainda não tiver sido consultada
+     */
+    private static double taxaRegiao(Statistics statistics, String regiao) {
+        try {
+            CacheRegionStatistics r = statistics.getDomainDataRegionStatistics(regiao);
+            return r == null ? Double.NaN : taxa(r.getHitCount(), r.getMissCount());
+        } catch (IllegalArgumentException e) {
+            // Região ainda não criada (cache de segundo nível desativado)
+            return Double.NaN;
+        }
+    }
+
+    private static double taxa(long acertos, long falhas) {
+        long total = acertos + falhas;
+        return total == 0 ? Double.NaN : (double) acertos / total;
+    }
+}
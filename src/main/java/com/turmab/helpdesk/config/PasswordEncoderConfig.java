@@ -0,0 +1,47 @@
+package com.turmab.helpdesk.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.turmab.helpdesk.security.AdaptiveBCryptPasswordEncoder;
+
+/**
+ * Configuração do encoder de senhas da aplicação.
+ *
+ * <p>
+ * Separada de {@link SecurityConfig} para que componentes usados pelos filtros de segurança
+ * (como o {@link com.turmab.helpdesk.security.SenhaRehashService}) possam receber o encoder
+ * sem criar uma dependência circular com a própria configuração de segurança.
+ * </p>
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * Bean que provê o {@link BCryptPasswordEncoder} usado para criptografar senhas.
+     *
+     * <p>
+     * O custo vem de <code>security.bcrypt.strength</code>, fixado na configuração para que
+     * todos os nós (e os testes) usem o mesmo valor. Com <code>0</code>, o custo é calibrado
+     * na inicialização para que um hash leve até <code>security.bcrypt.target-ms</code>, nunca
+     * abaixo de <code>security.bcrypt.min-strength</code>; o valor calibrado é registrado no
+     * log para ser fixado na configuração, e não deve ser usado assim em produção, pois
+     * cada inicialização pode chegar a um custo diferente.
+     * </p>
+     *
+     * @param strength custo fixo ou 0 para calibrar
+     * @param targetMs tempo alvo de um hash, em milissegundos
+     * @param minStrength custo mínimo
+     * @return um {@link BCryptPasswordEncoder} pronto para uso
+     */
+    @Bean
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${security.bcrypt.strength:0}") int strength,
+                                                       @Value("${security.bcrypt.target-ms:250}") long targetMs,
+                                                       @Value("${security.bcrypt.min-strength:10}") int minStrength) {
+        return strength > 0
+                ? new AdaptiveBCryptPasswordEncoder(strength)
+                : AdaptiveBCryptPasswordEncoder.calibrado(targetMs, minStrength);
+    }
+}
@@ -0,0 +1,29 @@
+package com.turmab.helpdesk.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link AbstractRoutingDataSource} que envia as transações somente leitura
+ * ({@code @Transactional(readOnly = true)}) para a réplica e as demais para o banco principal.
+ *
+ * <p>
+ * A decisão é tomada quando a conexão é obtida. Por isso esta fonte deve ficar atrás de um
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: o gerenciador
+ * de transações pede a conexão antes de marcar a transação como somente leitura, e o proxy
+ * adia a escolha até a primeira instrução SQL.
+ * </p>
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** Chave do banco principal (escrita). */
+    public static final String PRIMARY = "primary";
+
+    /** Chave da réplica (leitura). */
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -0,0 +1,99 @@
+package com.turmab.helpdesk.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuração da réplica de leitura, ativada pela propriedade
+ * <code>helpdesk.datasource.replica.url</code>.
+ *
+ * <p>
+ * Cria dois pools: o principal, com as propriedades <code>spring.datasource.*</code>, e o da
+ * réplica, com <code>helpdesk.datasource.replica.*</code>. A fonte de dados usada pela
+ * aplicação encaminha cada transação por {@link ReadOnlyRoutingDataSource}: consultas em
+ * {@code @Transactional(readOnly = true)} vão para a réplica; escritas, transações de escrita
+ * e acessos sem transação (DDL do Hibernate, login) ficam no principal.
+ * </p>
+ *
+ * <p>
+ * A réplica pode estar alguns instantes atrás do principal. Por isso as leituras que
+ * antecedem uma escrita (como a verificação de versão do PUT) acontecem dentro da própria
+ * transação de escrita. Localmente, apontar a réplica para o mesmo banco H2 em memória
+ * (<code>jdbc:h2:mem:testdb</code>) já exercita o roteamento com um segundo pool.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "helpdesk.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Pool do banco principal, montado a partir de <code>spring.datasource.*</code>.
+     *
+     * @param properties propriedades <code>spring.datasource.*</code>
+     * @return pool de conexões do banco principal
+     */
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Pool da réplica de leitura.
+     *
+     * @param url URL JDBC da réplica
+     * @param username usuário da réplica
+     * @param password senha da réplica
+     * @param maximumPoolSize tamanho máximo do pool da réplica
+     * @return pool de conexões somente leitura da réplica
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${helpdesk.datasource.replica.url}") String url,
+                                              @Value("${helpdesk.datasource.replica.username:}") String username,
+                                              @Value("${helpdesk.datasource.replica.password:}") String password,
+                                              @Value("${helpdesk.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Fonte de dados da aplicação (JPA, JdbcTemplate), que roteia entre principal e réplica.
+     *
+     * @param primaryDataSource pool do banco principal
+     * @param replicaDataSource pool da réplica
+     * @return proxy que adia a obtenção da conexão até a primeira instrução
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        Map<Object, Object> alvos = new HashMap<>();
+        alvos.put(ReadOnlyRoutingDataSource.PRIMARY, primaryDataSource);
+        alvos.put(ReadOnlyRoutingDataSource.REPLICA, replicaDataSource);
+        ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+        routing.setTargetDataSources(alvos);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
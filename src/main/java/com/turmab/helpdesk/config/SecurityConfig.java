@@ -19,6 +19,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.turmab.helpdesk.security.JWTAuthorizationFilter;
 import com.turmab.helpdesk.security.JWTAuthenticationFilter;
 import com.turmab.helpdesk.security.JWTUtil;
+import com.turmab.helpdesk.security.LoginExecutor;
+import com.turmab.helpdesk.security.SenhaRehashService;
+import com.turmab.helpdesk.security.UserSSCache;
 
 /**
  * Classe de configuração de segurança da aplicação.
@@ -60,6 +63,31 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    /**
+     * Cache dos usuários autenticados.
+     * Usado pelo filtro de autorização para evitar consultas ao banco a cada requisição.
+     */
+    @Autowired
+    private UserSSCache userCache;
+
+    /**
+     * Pool limitado onde o filtro de login verifica as senhas.
+     */
+    @Autowired
+    private LoginExecutor loginExecutor;
+
+    /**
+     * Encoder de senhas com custo calibrado (ver {@link PasswordEncoderConfig}).
+     */
+    @Autowired
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    /**
+     * Serviço que regrava em segundo plano senhas com custo de BCrypt desatualizado.
+     */
+    @Autowired
+    private SenhaRehashService senhaRehashService;
+
     /**
      * Configurações de segurança HTTP.
      * 
@@ -95,8 +123,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
          * Adiciona o filtro responsável pela autenticação via JWT.
          * Esse filtro fará login e retornará o token para o cliente quando as credenciais estiverem corretas.
          */
-        http.addFilter(new JWTAuthorizationFilter(authenticationManager(), jwtUtil, userDetailsService));
-        http.addFilter(new JWTAuthenticationFilter(authenticationManager(), jwtUtil));
+        http.addFilter(new JWTAuthorizationFilter(authenticationManager(), jwtUtil, userCache));
+        http.addFilter(new JWTAuthenticationFilter(authenticationManager(), jwtUtil, loginExecutor,
+                senhaRehashService));
 
         /**
          * Define que as rotas em PUBLIC_MATCHES são permitidas sem autenticação,
@@ -127,7 +156,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
          * Registra o UserDetailsService e o BCryptPasswordEncoder para que o Spring
          * consiga buscar o usuário e comparar a senha enviada com a senha armazenada.
          */
-        auth.userDetailsService(userDetailsService).passwordEncoder(bCryptPasswordEncoder());
+        auth.userDetailsService(userDetailsService).passwordEncoder(bCryptPasswordEncoder);
     }
 
     /**
@@ -151,7 +180,12 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         /**
          * Permite explicitamente os métodos HTTP usados pela API REST.
          */
-        configuration.setAllowedMethods(Arrays.asList("POST", "GET", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("POST", "GET", "PUT", "PATCH", "DELETE", "OPTIONS"));
+
+        /**
+         * Expõe o ETag (versão do registro) para uso no If-Match/If-None-Match pelo front-end.
+         */
+        configuration.addExposedHeader("ETag");
 
         /**
          * Fonte baseada em URL para registrar as configurações de CORS para todas as rotas.
@@ -169,21 +203,4 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         return source;
     }
 
-    /**
-     * Bean que provê o {@link BCryptPasswordEncoder} usado para criptografar senhas.
-     * 
-     * <p>
-     * Usar BCrypt é uma boa prática para armazenamento seguro de senhas.
-     * </p>
-     * 
-     * @return um {@link BCryptPasswordEncoder} pronto para uso
-     */
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        /**
-         * Cria e retorna a instância de BCryptPasswordEncoder.
-         */
-        return new BCryptPasswordEncoder();
-    }
-
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.turmab.helpdesk.domain;
 
 import javax.persistence.*;
 import java.io.Serializable;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import com.turmab.helpdesk.domain.enums.Prioridade;
 import com.turmab.helpdesk.domain.enums.Status;
 
@@ -13,14 +15,37 @@ import com.turmab.helpdesk.domain.enums.Status;
  * Um chamado possui informações sobre prioridade, status, título, observações,
  * e a associação obrigatória com um {@link Tecnico} e um {@link Cliente}.
  * </p>
+ * <p>
+ * Os índices atendem às consultas de filtro da listagem, que pagina por keyset em ordem
+ * de ID: os índices de status/prioridade, técnico e cliente terminam em {@code id}, de modo
+ * que a igualdade nas colunas iniciais seguida do {@code id > ? ORDER BY id} vira uma
+ * leitura de intervalo já ordenada, sem ordenação em memória. O filtro por intervalo de
+ * data de abertura usa o índice próprio. O índice de sequência de alteração atende à
+ * sincronização incremental ({@code GET /chamados/changes}).
+ * </p>
  */
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_chamado_status_prioridade", columnList = "status, prioridade, id"),
+    @Index(name = "idx_chamado_abertura", columnList = "dataAbertura, id"),
+    @Index(name = "idx_chamado_tecnico", columnList = "tecnico_id, id"),
+    @Index(name = "idx_chamado_cliente", columnList = "cliente_id, id"),
+    @Index(name = "idx_chamado_alteracao", columnList = "seqAlteracao, id"),
+    @Index(name = "idx_chamado_atualizacao", columnList = "dataAtualizacao, id")
+})
 public class Chamado implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    /** ID único do Chamado. Chave primária. */
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chamado_seq")
+    @SequenceGenerator(name = "chamado_seq", sequenceName = "chamado_seq", allocationSize = 50)
+    /**
+     * ID único do Chamado. Chave primária.
+     * <p>
+     * Gerado por sequência com alocação de 50 IDs por vez: o Hibernate conhece o ID antes do
+     * INSERT e pode agrupar as inserções em lotes JDBC (o que não ocorre com IDENTITY).
+     * </p>
+     */
     private Integer id;
     /** A prioridade do Chamado (Baixa, Média, Alta). */
     private Prioridade prioridade;
@@ -62,6 +87,51 @@ public class Chamado implements Serializable {
     
     private LocalDate dataAbertura = LocalDate.now();
 
+    /**
+     * Instante de abertura do Chamado, a partir do qual os prazos de SLA são contados.
+     * <p>
+     * Preenchido na inserção ({@link #atualizaData()}). Chamados com data de abertura
+     * anterior ao dia da inserção (importados ou gerados) recebem o início desse dia.
+     * </p>
+     */
+    private Instant dataHoraAbertura;
+
+    /**
+     * Versão do Chamado, incrementada a cada alteração.
+     * <p>
+     * Usada no controle de concorrência otimista: uma alteração baseada em uma versão
+     * desatualizada é rejeitada, em vez de sobrescrever a alteração de outro técnico.
+     * Exposta como ETag pela API.
+     * </p>
+     */
+    @Version
+    @Column(nullable = false)
+    private Integer version;
+
+    /**
+     * Instante da última gravação do Chamado.
+     * <p>
+     * Preenchido em toda inserção e alteração pela entidade ({@link #atualizaData()}) e
+     * explicitamente pelas alterações em massa (JPQL), que não passam pelos callbacks.
+     * Indexado para consultas por período de alteração; a sincronização incremental usa
+     * {@link #seqAlteracao}, que segue a ordem de commit.
+     * </p>
+     */
+    @Column(nullable = false)
+    private Instant dataAtualizacao;
+
+    /**
+     * Sequência da última alteração confirmada, usada pela sincronização incremental.
+     * <p>
+     * Atribuída imediatamente antes do commit a partir do contador único
+     * {@link ContadorAlteracao}, de modo que as transações recebem números em ordem de commit
+     * (ver {@link com.turmab.helpdesk.service.eventos.ChamadoSequenciaService}). Nunca é
+     * gravada pela entidade: a inserção usa o valor padrão 0 da coluna.
+     * </p>
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+    private Long seqAlteracao;
+
     /** Construtor padrão. */
     public Chamado() {
     }
@@ -110,4 +180,25 @@ public class Chamado implements Serializable {
     
     public LocalDate getDataAbertura() { return dataAbertura; }
     public void setDataAbertura(LocalDate dataAbertura) { this.dataAbertura = dataAbertura; }
+    public Integer getVersion() { return version; }
+    public void setVersion(Integer version) { this.version = version; }
+    public Instant getDataHoraAbertura() { return dataHoraAbertura; }
+    public void setDataHoraAbertura(Instant dataHoraAbertura) { this.dataHoraAbertura = dataHoraAbertura; }
+    public Instant getDataAtualizacao() { return dataAtualizacao; }
+    public void setDataAtualizacao(Instant dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
+    public Long getSeqAlteracao() { return seqAlteracao; }
+
+    /**
+     * Atualiza {@link #dataAtualizacao} antes de cada INSERT/UPDATE feito pela sessão e
+     * preenche {@link #dataHoraAbertura}, se ainda vazio.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void atualizaData() {
+        this.dataAtualizacao = Instant.now();
+        if (dataHoraAbertura == null) {
+            dataHoraAbertura = dataAbertura == null || !dataAbertura.isBefore(LocalDate.now()) ? dataAtualizacao
+                    : dataAbertura.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        }
+    }
 }
\ No newline at end of file
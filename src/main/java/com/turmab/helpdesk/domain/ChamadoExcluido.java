@@ -0,0 +1,57 @@
+package com.turmab.helpdesk.domain;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Registro ("tombstone") de um Chamado excluído.
+ * <p>
+ * Permite à sincronização incremental ({@code GET /chamados/changes}) informar aos clientes
+ * quais Chamados deixaram de existir desde a última sincronização, já que o registro do
+ * próprio Chamado é apagado.
+ * </p>
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_chamado_excluido_alteracao", columnList = "seqAlteracao, id"))
+public class ChamadoExcluido implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** ID do Chamado excluído. */
+    @Id
+    private Integer id;
+
+    /** Instante da exclusão. */
+    @Column(nullable = false)
+    private Instant dataExclusao;
+
+    /**
+     * Sequência da exclusão, atribuída antes do commit como a de {@link Chamado#getSeqAlteracao()}.
+     * Nunca é gravada pela entidade: a inserção usa o valor padrão 0 da coluna.
+     */
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+    private Long seqAlteracao;
+
+    /** Construtor padrão. */
+    public ChamadoExcluido() {
+    }
+
+    /**
+     * Construtor completo.
+     * @param id ID do Chamado excluído.
+     * @param dataExclusao Instante da exclusão.
+     */
+    public ChamadoExcluido(Integer id, Instant dataExclusao) {
+        this.id = id;
+        this.dataExclusao = dataExclusao;
+    }
+
+    // Getters e Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Instant getDataExclusao() { return dataExclusao; }
+    public void setDataExclusao(Instant dataExclusao) { this.dataExclusao = dataExclusao; }
+
+    public Long getSeqAlteracao() { return seqAlteracao; }
+}
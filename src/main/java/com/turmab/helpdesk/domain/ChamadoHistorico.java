@@ -0,0 +1,103 @@
+package com.turmab.helpdesk.domain;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Registro do histórico de alterações de um Chamado.
+ * <p>
+ * Cada registro guarda a alteração de um único campo acompanhado (status, prioridade ou
+ * técnico responsável), com os valores anterior e novo. A tabela é somente de inclusão:
+ * os registros não são alterados nem excluídos, nem mesmo com a exclusão do Chamado.
+ * A gravação é feita em lotes JDBC por
+ * {@link com.turmab.helpdesk.service.historico.ChamadoHistoricoWriter}, fora da transação
+ * que alterou o Chamado.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(indexes = @Index(name = "idx_chamado_historico_chamado", columnList = "chamado_id, dataAlteracao"))
+public class ChamadoHistorico implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Campos de Chamado acompanhados pelo histórico. */
+    public enum Campo {
+        STATUS, PRIORIDADE, TECNICO
+    }
+
+    /** ID do registro. Gerado pelo banco, pois a gravação é feita por JDBC. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** ID do Chamado alterado (sem chave estrangeira, para sobreviver à exclusão). */
+    @Column(name = "chamado_id", nullable = false)
+    private Integer chamado;
+
+    /** Campo alterado. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Campo campo;
+
+    /** Valor anterior do campo (nome do enum ou ID do técnico). */
+    private String valorAnterior;
+
+    /** Novo valor do campo (nome do enum ou ID do técnico). */
+    private String valorNovo;
+
+    /** Instante da alteração. */
+    @Column(nullable = false)
+    private Instant dataAlteracao;
+
+    /** ID do usuário que fez a alteração, ou {@code null} se não houver usuário autenticado. */
+    @Column(name = "usuario_id")
+    private Integer usuario;
+
+    /** Construtor padrão. */
+    public ChamadoHistorico() {
+    }
+
+    /**
+     * Construtor completo (exceto o ID).
+     * @param chamado ID do Chamado alterado.
+     * @param campo Campo alterado.
+     * @param valorAnterior Valor anterior.
+     * @param valorNovo Novo valor.
+     * @param dataAlteracao Instante da alteração.
+     * @param usuario ID do usuário que fez a alteração.
+     */
+    public ChamadoHistorico(Integer chamado, Campo campo, String valorAnterior, String valorNovo,
+                            Instant dataAlteracao, Integer usuario) {
+        this.chamado = chamado;
+        this.campo = campo;
+        this.valorAnterior = valorAnterior;
+        this.valorNovo = valorNovo;
+        this.dataAlteracao = dataAlteracao;
+        this.usuario = usuario;
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Integer getChamado() { return chamado; }
+    public void setChamado(Integer chamado) { this.chamado = chamado; }
+
+    public Campo getCampo() { return campo; }
+    public void setCampo(Campo campo) { this.campo = campo; }
+
+    public String getValorAnterior() { return valorAnterior; }
+    public void setValorAnterior(String valorAnterior) { this.valorAnterior = valorAnterior; }
+
+    public String getValorNovo() { return valorNovo; }
+    public void setValorNovo(String valorNovo) { this.valorNovo = valorNovo; }
+
+    public Instant getDataAlteracao() { return dataAlteracao; }
+    public void setDataAlteracao(Instant dataAlteracao) { this.dataAlteracao = dataAlteracao; }
+
+    public Integer getUsuario() { return usuario; }
+    public void setUsuario(Integer usuario) { this.usuario = usuario; }
+}
@@ -36,9 +36,20 @@ public class Cliente extends Pessoa {
         this.cpf = objDTO.getCpf();
         this.email = objDTO.getEmail();
         this.senha = objDTO.getSenha();
-        if (objDTO.getPerfis() != null && !objDTO.getPerfis().isEmpty()) {
-            this.getPerfis().clear(); // Limpa perfis existentes
-            objDTO.getPerfis().forEach(this::addPerfil);
+        if (!objDTO.getPerfis().isEmpty()) {
+            setPerfis(objDTO.getPerfis()); // Substitui os perfis padrão
+        }
+        addPerfil(Perfil.CLIENTE);
+    }
+
+    // Aplica os dados do DTO nesta instância (gerenciada), preservando versão e data de criação
+    public void atualizar(ClienteDTO objDTO) {
+        this.nome = objDTO.getNome();
+        this.cpf = objDTO.getCpf();
+        this.email = objDTO.getEmail();
+        this.senha = objDTO.getSenha();
+        if (!objDTO.getPerfis().isEmpty()) {
+            setPerfis(objDTO.getPerfis());
         }
         addPerfil(Perfil.CLIENTE);
     }
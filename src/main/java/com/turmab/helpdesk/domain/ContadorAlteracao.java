@@ -0,0 +1,51 @@
+package com.turmab.helpdesk.domain;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * Contador único (uma linha, {@link #ID}) das alterações de Chamados, usado pela
+ * sincronização incremental ({@code GET /chamados/changes}).
+ * <p>
+ * Cada transação que cria, altera ou exclui Chamados incrementa o contador imediatamente
+ * antes do commit e grava o novo valor nos registros afetados. O bloqueio da linha dura
+ * até o fim da transação, então os valores são atribuídos na ordem de commit: quando um
+ * valor está visível, todos os menores já foram confirmados ou desfeitos.
+ * </p>
+ */
+@Entity
+public class ContadorAlteracao implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** ID da única linha do contador. */
+    public static final int ID = 1;
+
+    /** ID da linha (sempre {@link #ID}). */
+    @Id
+    private Integer id;
+
+    /** Última sequência atribuída. */
+    @Column(nullable = false)
+    private Long valor;
+
+    /** Construtor padrão. */
+    public ContadorAlteracao() {
+    }
+
+    /**
+     * Construtor completo.
+     * @param id ID da linha.
+     * @param valor Valor inicial.
+     */
+    public ContadorAlteracao(Integer id, Long valor) {
+        this.id = id;
+        this.valor = valor;
+    }
+
+    // Getters e Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Long getValor() { return valor; }
+    public void setValor(Long valor) { this.valor = valor; }
+}
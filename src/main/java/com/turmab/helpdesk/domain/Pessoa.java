@@ -2,18 +2,18 @@ package com.turmab.helpdesk.domain;
 
 import java.io.Serializable;
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import javax.persistence.CollectionTable;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
-import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
-import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.turmab.helpdesk.domain.enums.Perfil;
@@ -21,8 +21,15 @@ import com.turmab.helpdesk.domain.enums.Perfil;
 // TODO: Auto-generated Javadoc
 /**
  * The Class Pessoa.
+ *
+ * <p>Kept in the Hibernate second-level cache (region "pessoa"): technicians and clients
+ * change rarely but are read on every request. Caching must be declared on the root of
+ * the hierarchy; writes through the session, including JPQL bulk updates, refresh or
+ * evict the entries.</p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pessoa")
 public abstract class Pessoa implements Serializable{
 	
 	/** The Constant serialVersionUID. */
@@ -48,15 +55,23 @@ public abstract class Pessoa implements Serializable{
 	/** The senha. */
 	protected String senha;
 	
-	/** The perfis. */
-	@ElementCollection(fetch = FetchType.EAGER)
-	@CollectionTable(name = "PERFIS")
-	protected Set<Integer> perfis = new HashSet<>();
+	/**
+	 * The perfis, stored as a bitmask in a single int column (bit {@code 1 << codigo}
+	 * for each {@link Perfil}). Mapped as a plain int, so Hibernate compares the value
+	 * directly on dirty checking; {@link #getPerfis()} exposes it as a shared set.
+	 */
+	@Column(name = "perfis", nullable = false)
+	protected int perfis;
 	
 	/** The data criacao. */
 	@JsonFormat(pattern = "dd/MM/yyyy")
 	protected LocalDate dataCriacao = LocalDate.now();
 	
+	/** The version, incremented on every update (optimistic locking / ETag). */
+	@Version
+	@Column(nullable = false)
+	protected Integer version;
+	
 	/**
 	 * Instantiates a new pessoa.
 	 */
@@ -177,12 +192,22 @@ public abstract class Pessoa implements Serializable{
 	}
 
 	/**
-	 * Gets the perfis.
+	 * Gets the perfis (one of the immutable sets of {@link Perfil#fromMascara(int)},
+	 * shared between instances; no allocation).
 	 *
 	 * @return the perfis
 	 */
 	public Set<Perfil> getPerfis() {
-		return perfis.stream().map(x -> Perfil.toEnum(x)).collect(Collectors.toSet());
+		return Perfil.fromMascara(perfis);
+	}
+
+	/**
+	 * Replaces the perfis.
+	 *
+	 * @param perfis the new perfis
+	 */
+	public void setPerfis(Set<Perfil> perfis) {
+		this.perfis = Perfil.toMascara(perfis);
 	}
 
 	/**
@@ -191,7 +216,17 @@ public abstract class Pessoa implements Serializable{
 	 * @param perfil the perfil
 	 */
 	public void addPerfil(Perfil perfil) {
-		this.perfis.add(perfil.getCodigo());
+		this.perfis |= perfil.getMascara();
+	}
+
+	/**
+	 * Checks whether this pessoa has the perfil.
+	 *
+	 * @param perfil the perfil
+	 * @return true, if it has the perfil
+	 */
+	public boolean hasPerfil(Perfil perfil) {
+		return (perfis & perfil.getMascara()) != 0;
 	}
 
 	/**
@@ -212,6 +247,24 @@ public abstract class Pessoa implements Serializable{
 		this.dataCriacao = dataCriacao;
 	}
 
+	/**
+	 * Gets the version.
+	 *
+	 * @return the version
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * Sets the version.
+	 *
+	 * @param version the new version
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
+
 	
 	
 	/**
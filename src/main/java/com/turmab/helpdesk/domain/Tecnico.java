@@ -2,7 +2,6 @@ package com.turmab.helpdesk.domain;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import javax.persistence.Entity;
 import javax.persistence.OneToMany;
@@ -33,9 +32,19 @@ public class Tecnico extends Pessoa {
         this.cpf = objDTO.getCpf();
         this.email = objDTO.getEmail();
         this.senha = objDTO.getSenha();
-        this.perfis = objDTO.getPerfis().stream()
-                .map(Perfil::getCodigo)
-                .collect(Collectors.toSet());
+        setPerfis(objDTO.getPerfis());
+        addPerfil(Perfil.TECNICO);
+    }
+
+    // Aplica os dados do DTO nesta instância (gerenciada), preservando versão e data de criação
+    public void atualizar(TecnicoDTO objDTO) {
+        this.nome = objDTO.getNome();
+        this.cpf = objDTO.getCpf();
+        this.email = objDTO.getEmail();
+        this.senha = objDTO.getSenha();
+        if (!objDTO.getPerfis().isEmpty()) {
+            setPerfis(objDTO.getPerfis());
+        }
         addPerfil(Perfil.TECNICO);
     }
 
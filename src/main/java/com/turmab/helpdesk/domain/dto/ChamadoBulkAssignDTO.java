@@ -0,0 +1,39 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * Reatribuição de vários Chamados a um técnico ({@code POST /chamados/bulk-assign}).
+ */
+public class ChamadoBulkAssignDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** IDs dos Chamados a reatribuir. */
+    @NotEmpty(message = "O campo IDS é requerido")
+    @Size(max = 1000, message = "No máximo 1000 chamados por operação")
+    private List<Integer> ids;
+
+    /** ID do novo técnico responsável. */
+    @NotNull(message = "O campo TÉCNICO é requerido")
+    private Integer tecnico;
+
+    /** Construtor padrão. */
+    public ChamadoBulkAssignDTO() {
+        super();
+    }
+
+    /** Retorna os IDs dos Chamados. */
+    public List<Integer> getIds() { return ids; }
+    /** Define os IDs dos Chamados. */
+    public void setIds(List<Integer> ids) { this.ids = ids; }
+
+    /** Retorna o ID do técnico. */
+    public Integer getTecnico() { return tecnico; }
+    /** Define o ID do técnico. */
+    public void setTecnico(Integer tecnico) { this.tecnico = tecnico; }
+}
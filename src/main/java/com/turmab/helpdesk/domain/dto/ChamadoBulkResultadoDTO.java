@@ -0,0 +1,45 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+
+/**
+ * Resultado de uma operação em massa sobre Chamados.
+ * <p>
+ * {@code alterados} pode ser menor que {@code solicitados} quando algum ID não existe.
+ * </p>
+ */
+public class ChamadoBulkResultadoDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Quantidade de IDs distintos recebidos. */
+    private int solicitados;
+
+    /** Quantidade de Chamados alterados. */
+    private int alterados;
+
+    /** Construtor padrão. */
+    public ChamadoBulkResultadoDTO() {
+        super();
+    }
+
+    /**
+     * Construtor completo.
+     * @param solicitados Quantidade de IDs distintos recebidos.
+     * @param alterados Quantidade de Chamados alterados.
+     */
+    public ChamadoBulkResultadoDTO(int solicitados, int alterados) {
+        super();
+        this.solicitados = solicitados;
+        this.alterados = alterados;
+    }
+
+    /** Retorna a quantidade de IDs recebidos. */
+    public int getSolicitados() { return solicitados; }
+    /** Define a quantidade de IDs recebidos. */
+    public void setSolicitados(int solicitados) { this.solicitados = solicitados; }
+
+    /** Retorna a quantidade de Chamados alterados. */
+    public int getAlterados() { return alterados; }
+    /** Define a quantidade de Chamados alterados. */
+    public void setAlterados(int alterados) { this.alterados = alterados; }
+}
@@ -0,0 +1,39 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * Alteração de status de vários Chamados de uma vez ({@code POST /chamados/bulk-status}).
+ */
+public class ChamadoBulkStatusDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** IDs dos Chamados a alterar. */
+    @NotEmpty(message = "O campo IDS é requerido")
+    @Size(max = 1000, message = "No máximo 1000 chamados por operação")
+    private List<Integer> ids;
+
+    /** Novo código do status (0=ABERTO, 1=ANDAMENTO, 2=ENCERRADO). */
+    @NotNull(message = "O campo STATUS é requerido")
+    private Integer status;
+
+    /** Construtor padrão. */
+    public ChamadoBulkStatusDTO() {
+        super();
+    }
+
+    /** Retorna os IDs dos Chamados. */
+    public List<Integer> getIds() { return ids; }
+    /** Define os IDs dos Chamados. */
+    public void setIds(List<Integer> ids) { this.ids = ids; }
+
+    /** Retorna o código do status. */
+    public Integer getStatus() { return status; }
+    /** Define o código do status. */
+    public void setStatus(Integer status) { this.status = status; }
+}
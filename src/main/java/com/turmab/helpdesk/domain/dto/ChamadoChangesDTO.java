@@ -0,0 +1,124 @@
+package com.turmab.helpdesk.domain.dto;
+
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Resultado da sincronização incremental de Chamados ({@code GET /chamados/changes}).
+ * <p>
+ * Contém os Chamados criados ou alterados e os IDs dos Chamados excluídos depois do token
+ * informado. O token é opaco para o cliente e representa a posição (sequência de alteração,
+ * ID) da última alteração entregue; o cliente deve guardá-lo e devolvê-lo no parâmetro {@code since} da
+ * próxima sincronização. Enquanto {@code hasMore} for {@code true}, há mais alterações
+ * disponíveis e a chamada pode ser repetida imediatamente com o novo token.
+ * </p>
+ */
+public class ChamadoChangesDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Chamados criados ou alterados desde o token, em ordem de alteração. */
+    private List<ChamadoDTO> alterados;
+
+    /** IDs dos Chamados excluídos desde o token, em ordem de exclusão. */
+    private List<Integer> excluidos;
+
+    /** Token a ser enviado na próxima sincronização. */
+    private String next;
+
+    /** Indica se há mais alterações além das retornadas. */
+    private boolean hasMore;
+
+    /** Construtor padrão. */
+    public ChamadoChangesDTO() {
+        super();
+    }
+
+    /**
+     * Construtor completo.
+     * @param alterados Chamados criados ou alterados.
+     * @param excluidos IDs dos Chamados excluídos.
+     * @param next Token da próxima sincronização.
+     * @param hasMore Se há mais alterações além das retornadas.
+     */
+    public ChamadoChangesDTO(List<ChamadoDTO> alterados, List<Integer> excluidos, String next, boolean hasMore) {
+        super();
+        this.alterados = alterados;
+        this.excluidos = excluidos;
+        this.next = next;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Codifica a posição da última alteração entregue em um token opaco.
+     * @param sequencia Sequência da última alteração.
+     * @param id ID do Chamado da última alteração.
+     * @return O token codificado.
+     */
+    public static String encodeToken(long sequencia, Integer id) {
+        String valor = sequencia + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica a sequência de alteração de um token recebido do cliente.
+     * @param token O token ou {@code null} para sincronizar desde o início.
+     * @return A sequência da posição ou {@code 0} se não houver token.
+     * @throws BadRequestException Se o token for inválido.
+     */
+    public static long decodeSequencia(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0L;
+        }
+        return Long.parseLong(partes(token)[0]);
+    }
+
+    /**
+     * Decodifica o ID de um token recebido do cliente.
+     * @param token O token ou {@code null} para sincronizar desde o início.
+     * @return O ID da posição ou {@code 0} se não houver token.
+     * @throws BadRequestException Se o token for inválido.
+     */
+    public static Integer decodeId(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0;
+        }
+        return Integer.valueOf(partes(token)[1]);
+    }
+
+    private static String[] partes(String token) {
+        try {
+            String[] partes = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (partes.length != 2 || Long.parseLong(partes[0]) < 0) {
+                throw new IllegalArgumentException();
+            }
+            Integer.parseInt(partes[1]);
+            return partes;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Token inválido: " + token);
+        }
+    }
+
+    /** Retorna os Chamados criados ou alterados. */
+    public List<ChamadoDTO> getAlterados() { return alterados; }
+    /** Define os Chamados criados ou alterados. */
+    public void setAlterados(List<ChamadoDTO> alterados) { this.alterados = alterados; }
+
+    /** Retorna os IDs dos Chamados excluídos. */
+    public List<Integer> getExcluidos() { return excluidos; }
+    /** Define os IDs dos Chamados excluídos. */
+    public void setExcluidos(List<Integer> excluidos) { this.excluidos = excluidos; }
+
+    /** Retorna o token da próxima sincronização. */
+    public String getNext() { return next; }
+    /** Define o token da próxima sincronização. */
+    public void setNext(String next) { this.next = next; }
+
+    /** Retorna se há mais alterações além das retornadas. */
+    public boolean isHasMore() { return hasMore; }
+    /** Define se há mais alterações além das retornadas. */
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -73,6 +74,15 @@ public class ChamadoDTO implements Serializable {
     /** Nome do cliente. Campo apenas para retorno (leitura). */
     private String nomeCliente;
 
+    /**
+     * Versão do chamado. Campo apenas para retorno (leitura); nas alterações a versão
+     * esperada é informada pelo cabeçalho {@code If-Match}.
+     */
+    private Integer version;
+
+    /** Instante da última alteração do chamado. Campo apenas para retorno (leitura). */
+    private Instant dataAtualizacao;
+
     /** Construtor padrão. */
     public ChamadoDTO() {
         super();
@@ -98,6 +108,46 @@ public class ChamadoDTO implements Serializable {
         this.cliente = obj.getCliente().getId();
         this.nomeTecnico = obj.getTecnico().getNome();
         this.nomeCliente = obj.getCliente().getNome();
+        this.version = obj.getVersion();
+        this.dataAtualizacao = obj.getDataAtualizacao();
+    }
+
+    /**
+     * Construtor usado pelas consultas de projeção ({@code SELECT new ...}) do
+     * {@link com.turmab.helpdesk.repositories.ChamadoRepository}.
+     * <p>
+     * Recebe os nomes do técnico e do cliente já resolvidos pela junção, de modo que
+     * nenhuma entidade gerenciada precise ser carregada.
+     * </p>
+     * @param id ID do chamado.
+     * @param dataAbertura Data de abertura.
+     * @param prioridade Prioridade do chamado.
+     * @param status Status do chamado.
+     * @param titulo Título do chamado.
+     * @param observacoes Observações do chamado.
+     * @param tecnico ID do técnico.
+     * @param nomeTecnico Nome do técnico.
+     * @param cliente ID do cliente.
+     * @param nomeCliente Nome do cliente.
+     * @param version Versão do chamado.
+     * @param dataAtualizacao Instante da última alteração do chamado.
+     */
+    public ChamadoDTO(Integer id, LocalDate dataAbertura, Prioridade prioridade, Status status,
+                      String titulo, String observacoes, Integer tecnico, String nomeTecnico,
+                      Integer cliente, String nomeCliente, Integer version, Instant dataAtualizacao) {
+        super();
+        this.id = id;
+        this.dataAbertura = dataAbertura;
+        this.prioridade = prioridade.getCodigo();
+        this.status = status.getState();
+        this.titulo = titulo;
+        this.observacoes = observacoes;
+        this.tecnico = tecnico;
+        this.nomeTecnico = nomeTecnico;
+        this.cliente = cliente;
+        this.nomeCliente = nomeCliente;
+        this.version = version;
+        this.dataAtualizacao = dataAtualizacao;
     }
 
     // --- Getters e Setters ---
@@ -161,4 +211,14 @@ public class ChamadoDTO implements Serializable {
     public String getNomeCliente() { return nomeCliente; }
     /** Define o nome do cliente (apenas leitura). */
     public void setNomeCliente(String nomeCliente) { this.nomeCliente = nomeCliente; }
+
+    /** Retorna a versão do chamado. */
+    public Integer getVersion() { return version; }
+    /** Define a versão do chamado. */
+    public void setVersion(Integer version) { this.version = version; }
+
+    /** Retorna o instante da última alteração do chamado. */
+    public Instant getDataAtualizacao() { return dataAtualizacao; }
+    /** Define o instante da última alteração do chamado (apenas leitura). */
+    public void setDataAtualizacao(Instant dataAtualizacao) { this.dataAtualizacao = dataAtualizacao; }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * Critérios de filtro para a listagem de Chamados.
+ * <p>
+ * Todos os campos são opcionais; apenas os informados são aplicados na consulta.
+ * Os campos são preenchidos a partir dos parâmetros da requisição
+ * ({@code ?status=0&prioridade=2&tecnico=1&dataInicio=2024-01-01}).
+ * </p>
+ */
+public class ChamadoFiltroDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Código do status (0=ABERTO, 1=ANDAMENTO, 2=ENCERRADO). */
+    private Integer status;
+
+    /** Código da prioridade (0=BAIXA, 1=MÉDIA, 2=ALTA). */
+    private Integer prioridade;
+
+    /** ID do técnico responsável. */
+    private Integer tecnico;
+
+    /** ID do cliente solicitante. */
+    private Integer cliente;
+
+    /** Data de abertura inicial (inclusiva). */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataInicio;
+
+    /** Data de abertura final (inclusiva). */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dataFim;
+
+    /** Construtor padrão. */
+    public ChamadoFiltroDTO() {
+        super();
+    }
+
+    /** Retorna o código do status. */
+    public Integer getStatus() { return status; }
+    /** Define o código do status. */
+    public void setStatus(Integer status) { this.status = status; }
+
+    /** Retorna o código da prioridade. */
+    public Integer getPrioridade() { return prioridade; }
+    /** Define o código da prioridade. */
+    public void setPrioridade(Integer prioridade) { this.prioridade = prioridade; }
+
+    /** Retorna o ID do técnico. */
+    public Integer getTecnico() { return tecnico; }
+    /** Define o ID do técnico. */
+    public void setTecnico(Integer tecnico) { this.tecnico = tecnico; }
+
+    /** Retorna o ID do cliente. */
+    public Integer getCliente() { return cliente; }
+    /** Define o ID do cliente. */
+    public void setCliente(Integer cliente) { this.cliente = cliente; }
+
+    /** Retorna a data de abertura inicial. */
+    public LocalDate getDataInicio() { return dataInicio; }
+    /** Define a data de abertura inicial. */
+    public void setDataInicio(LocalDate dataInicio) { this.dataInicio = dataInicio; }
+
+    /** Retorna a data de abertura final. */
+    public LocalDate getDataFim() { return dataFim; }
+    /** Define a data de abertura final. */
+    public void setDataFim(LocalDate dataFim) { this.dataFim = dataFim; }
+}
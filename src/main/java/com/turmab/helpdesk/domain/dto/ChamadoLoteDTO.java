@@ -0,0 +1,60 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Resposta da criação de Chamados em lote ({@code POST /chamados/batch}).
+ * <p>
+ * Contém os totais de itens criados e rejeitados e o resultado de cada item,
+ * na mesma ordem do array enviado.
+ * </p>
+ */
+public class ChamadoLoteDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Quantidade de Chamados criados. */
+    private int criados;
+
+    /** Quantidade de itens rejeitados. */
+    private int rejeitados;
+
+    /** Resultado de cada item. */
+    private List<ChamadoLoteItemDTO> itens;
+
+    /** Construtor padrão. */
+    public ChamadoLoteDTO() {
+        super();
+    }
+
+    /**
+     * Construtor a partir dos resultados dos itens, calculando os totais.
+     * @param itens Resultado de cada item.
+     */
+    public ChamadoLoteDTO(List<ChamadoLoteItemDTO> itens) {
+        super();
+        this.itens = itens;
+        for (ChamadoLoteItemDTO item : itens) {
+            if (item.getId() != null) {
+                criados++;
+            } else {
+                rejeitados++;
+            }
+        }
+    }
+
+    /** Retorna a quantidade de Chamados criados. */
+    public int getCriados() { return criados; }
+    /** Define a quantidade de Chamados criados. */
+    public void setCriados(int criados) { this.criados = criados; }
+
+    /** Retorna a quantidade de itens rejeitados. */
+    public int getRejeitados() { return rejeitados; }
+    /** Define a quantidade de itens rejeitados. */
+    public void setRejeitados(int rejeitados) { this.rejeitados = rejeitados; }
+
+    /** Retorna o resultado de cada item. */
+    public List<ChamadoLoteItemDTO> getItens() { return itens; }
+    /** Define o resultado de cada item. */
+    public void setItens(List<ChamadoLoteItemDTO> itens) { this.itens = itens; }
+}
@@ -0,0 +1,57 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Resultado de um item da criação de Chamados em lote.
+ * <p>
+ * {@code indice} é a posição do item no array enviado. Itens criados trazem o
+ * {@code id} gerado; itens rejeitados trazem {@code id} nulo e a lista de {@code erros}.
+ * </p>
+ */
+public class ChamadoLoteItemDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Posição do item no array enviado. */
+    private int indice;
+
+    /** ID do Chamado criado ou {@code null} se o item foi rejeitado. */
+    private Integer id;
+
+    /** Mensagens de erro do item (vazia se criado). */
+    private List<String> erros;
+
+    /** Construtor padrão. */
+    public ChamadoLoteItemDTO() {
+        super();
+    }
+
+    /**
+     * Construtor completo.
+     * @param indice Posição do item no array enviado.
+     * @param id ID do Chamado criado ou {@code null}.
+     * @param erros Mensagens de erro do item.
+     */
+    public ChamadoLoteItemDTO(int indice, Integer id, List<String> erros) {
+        super();
+        this.indice = indice;
+        this.id = id;
+        this.erros = erros;
+    }
+
+    /** Retorna a posição do item. */
+    public int getIndice() { return indice; }
+    /** Define a posição do item. */
+    public void setIndice(int indice) { this.indice = indice; }
+
+    /** Retorna o ID do Chamado criado. */
+    public Integer getId() { return id; }
+    /** Define o ID do Chamado criado. */
+    public void setId(Integer id) { this.id = id; }
+
+    /** Retorna as mensagens de erro. */
+    public List<String> getErros() { return erros; }
+    /** Define as mensagens de erro. */
+    public void setErros(List<String> erros) { this.erros = erros; }
+}
@@ -0,0 +1,76 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+
+/**
+ * Alteração parcial de um Chamado ({@code PATCH /chamados/{id}}).
+ * <p>
+ * Todos os campos são opcionais: apenas os informados (não nulos) são alterados.
+ * Técnico e cliente são informados pelo ID.
+ * </p>
+ */
+public class ChamadoPatchDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Novo código da prioridade (0=BAIXA, 1=MÉDIA, 2=ALTA). */
+    private Integer prioridade;
+
+    /** Novo código do status (0=ABERTO, 1=ANDAMENTO, 2=ENCERRADO). */
+    private Integer status;
+
+    /** Novo título. */
+    private String titulo;
+
+    /** Novas observações. */
+    private String observacoes;
+
+    /** ID do novo técnico responsável. */
+    private Integer tecnico;
+
+    /** ID do novo cliente. */
+    private Integer cliente;
+
+    /** Construtor padrão. */
+    public ChamadoPatchDTO() {
+        super();
+    }
+
+    /**
+     * Indica se nenhum campo foi informado.
+     * @return {@code true} se não houver alteração a aplicar.
+     */
+    public boolean isVazio() {
+        return prioridade == null && status == null && titulo == null && observacoes == null
+                && tecnico == null && cliente == null;
+    }
+
+    /** Retorna o código da prioridade. */
+    public Integer getPrioridade() { return prioridade; }
+    /** Define o código da prioridade. */
+    public void setPrioridade(Integer prioridade) { this.prioridade = prioridade; }
+
+    /** Retorna o código do status. */
+    public Integer getStatus() { return status; }
+    /** Define o código do status. */
+    public void setStatus(Integer status) { this.status = status; }
+
+    /** Retorna o título. */
+    public String getTitulo() { return titulo; }
+    /** Define o título. */
+    public void setTitulo(String titulo) { this.titulo = titulo; }
+
+    /** Retorna as observações. */
+    public String getObservacoes() { return observacoes; }
+    /** Define as observações. */
+    public void setObservacoes(String observacoes) { this.observacoes = observacoes; }
+
+    /** Retorna o ID do técnico. */
+    public Integer getTecnico() { return tecnico; }
+    /** Define o ID do técnico. */
+    public void setTecnico(Integer tecnico) { this.tecnico = tecnico; }
+
+    /** Retorna o ID do cliente. */
+    public Integer getCliente() { return cliente; }
+    /** Define o ID do cliente. */
+    public void setCliente(Integer cliente) { this.cliente = cliente; }
+}
@@ -0,0 +1,112 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.service.sla.SlaEvento.Prazo;
+
+/**
+ * Chamado em risco de SLA, retornado por {@code GET /chamados/sla}.
+ * <p>
+ * Informa o prazo mais próximo já em alerta (resposta ou resolução), quando ele vence e se
+ * já está vencido.
+ * </p>
+ */
+public class ChamadoSlaDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** ID do chamado. */
+    private Integer id;
+
+    /** Título do chamado. */
+    private String titulo;
+
+    /** Código da prioridade do chamado. */
+    private Integer prioridade;
+
+    /** Código do status do chamado. */
+    private Integer status;
+
+    /** ID do técnico responsável. */
+    private Integer tecnico;
+
+    /** Prazo em risco. */
+    private Prazo prazo;
+
+    /** Instante em que o prazo vence (ou venceu). */
+    private Instant vencimento;
+
+    /** Indica se o prazo já venceu. */
+    private boolean violado;
+
+    /** Construtor padrão. */
+    public ChamadoSlaDTO() {
+        super();
+    }
+
+    /**
+     * Construtor completo.
+     * @param id ID do chamado.
+     * @param titulo Título do chamado.
+     * @param prioridade Prioridade do chamado.
+     * @param status Status do chamado.
+     * @param tecnico ID do técnico responsável.
+     * @param prazo Prazo em risco.
+     * @param vencimento Instante de vencimento do prazo.
+     * @param violado Se o prazo já venceu.
+     */
+    public ChamadoSlaDTO(Integer id, String titulo, Prioridade prioridade, Status status, Integer tecnico,
+                         Prazo prazo, Instant vencimento, boolean violado) {
+        super();
+        this.id = id;
+        this.titulo = titulo;
+        this.prioridade = prioridade.getCodigo();
+        this.status = status.getState();
+        this.tecnico = tecnico;
+        this.prazo = prazo;
+        this.vencimento = vencimento;
+        this.violado = violado;
+    }
+
+    /** Retorna o ID do chamado. */
+    public Integer getId() { return id; }
+    /** Define o ID do chamado. */
+    public void setId(Integer id) { this.id = id; }
+
+    /** Retorna o título do chamado. */
+    public String getTitulo() { return titulo; }
+    /** Define o título do chamado. */
+    public void setTitulo(String titulo) { this.titulo = titulo; }
+
+    /** Retorna o código da prioridade. */
+    public Integer getPrioridade() { return prioridade; }
+    /** Define o código da prioridade. */
+    public void setPrioridade(Integer prioridade) { this.prioridade = prioridade; }
+
+    /** Retorna o código do status. */
+    public Integer getStatus() { return status; }
+    /** Define o código do status. */
+    public void setStatus(Integer status) { this.status = status; }
+
+    /** Retorna o ID do técnico responsável. */
+    public Integer getTecnico() { return tecnico; }
+    /** Define o ID do técnico responsável. */
+    public void setTecnico(Integer tecnico) { this.tecnico = tecnico; }
+
+    /** Retorna o prazo em risco. */
+    public Prazo getPrazo() { return prazo; }
+    /** Define o prazo em risco. */
+    public void setPrazo(Prazo prazo) { this.prazo = prazo; }
+
+    /** Retorna o instante de vencimento do prazo. */
+    public Instant getVencimento() { return vencimento; }
+    /** Define o instante de vencimento do prazo. */
+    public void setVencimento(Instant vencimento) { this.vencimento = vencimento; }
+
+    /** Retorna se o prazo já venceu. */
+    public boolean isViolado() { return violado; }
+    /** Define se o prazo já venceu. */
+    public void setViolado(boolean violado) { this.violado = violado; }
+}
@@ -1,12 +1,14 @@
 package com.turmab.helpdesk.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.turmab.helpdesk.domain.Cliente;
 import com.turmab.helpdesk.domain.enums.Perfil;
 
 import javax.validation.constraints.NotEmpty;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 /**
@@ -33,8 +35,9 @@ public class ClienteDTO {
     @NotEmpty(message = "O campo EMAIL é requerido")
     private String email;
     
-    /** Senha do Cliente.*/
+    /** Senha do Cliente. Aceita na entrada, nunca devolvida nas respostas (hash BCrypt). */
     @NotEmpty(message = "O campo SENHA é requerido")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String senha;
     
     /** Conjunto de perfis (códigos) do Cliente (ex: 2 para CLIENTE). */
@@ -43,6 +46,9 @@ public class ClienteDTO {
     @JsonFormat(pattern = "dd/MM/yyyy")
 	private LocalDate dataCriacao;
     
+    /** Versão do registro (somente leitura; na atualização use o cabeçalho If-Match). */
+    private Integer version;
+    
     /** Construtor padrão. */
     public ClienteDTO() {
     }
@@ -60,6 +66,7 @@ public class ClienteDTO {
         this.email = obj.getEmail();
         this.senha = obj.getSenha();
         this.dataCriacao = obj.getDataCriacao();
+        this.version = obj.getVersion();
         this.perfis = obj.getPerfis().stream()
                 .map(Perfil::getCodigo)
                 .collect(Collectors.toSet());
@@ -100,7 +107,15 @@ public class ClienteDTO {
      */
     
     public void setDataCriacao(LocalDate dataCriacao) { this.dataCriacao = dataCriacao; }
+    /** Retorna a versão do registro. */
+    public Integer getVersion() { return version; }
+    /** Define a versão do registro. */
+    public void setVersion(Integer version) { this.version = version; }
+
     public Set<Perfil> getPerfis() {
+        if (perfis == null) {
+            return Collections.emptySet();
+        }
         return perfis.stream()
                 .map(Perfil::toEnum)
                 .collect(Collectors.toSet());
@@ -0,0 +1,96 @@
+package com.turmab.helpdesk.domain.dto;
+
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Página de resultados obtida por paginação por cursor (keyset).
+ * <p>
+ * Em vez de um deslocamento ({@code OFFSET}), cada página é identificada pelo último ID
+ * retornado na página anterior. A consulta seguinte lê apenas os registros com ID maior
+ * que o cursor, o que permite ao banco percorrer o índice da chave primária a partir desse
+ * ponto. O custo de cada página depende apenas do tamanho da página, e não do tamanho da tabela.
+ * </p>
+ * <p>
+ * O cursor exposto ao cliente é opaco: o cliente deve apenas devolvê-lo no parâmetro
+ * {@code after} para obter a próxima página.
+ * </p>
+ *
+ * @param <T> tipo dos elementos da página
+ */
+public class CursorPageDTO<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Elementos da página atual. */
+    private List<T> content;
+
+    /** Cursor para a próxima página ou {@code null} se esta for a última. */
+    private String nextCursor;
+
+    /** Quantidade máxima de elementos solicitada. */
+    private Integer limit;
+
+    /** Construtor padrão. */
+    public CursorPageDTO() {
+        super();
+    }
+
+    /**
+     * Construtor completo.
+     * @param content Elementos da página.
+     * @param nextCursor Cursor da próxima página ou {@code null}.
+     * @param limit Quantidade máxima de elementos solicitada.
+     */
+    public CursorPageDTO(List<T> content, String nextCursor, Integer limit) {
+        super();
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Codifica o último ID de uma página em um cursor opaco.
+     * @param id O último ID retornado.
+     * @return O cursor codificado.
+     */
+    public static String encodeCursor(Integer id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     * @param cursor O cursor opaco ou {@code null} para a primeira página.
+     * @return O último ID da página anterior ou {@code null} se não houver cursor.
+     * @throws BadRequestException Se o cursor for inválido.
+     */
+    public static Integer decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido: " + cursor);
+        }
+    }
+
+    /** Retorna os elementos da página. */
+    public List<T> getContent() { return content; }
+    /** Define os elementos da página. */
+    public void setContent(List<T> content) { this.content = content; }
+
+    /** Retorna o cursor da próxima página. */
+    public String getNextCursor() { return nextCursor; }
+    /** Define o cursor da próxima página. */
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    /** Retorna o limite solicitado. */
+    public Integer getLimit() { return limit; }
+    /** Define o limite solicitado. */
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
@@ -0,0 +1,82 @@
+package com.turmab.helpdesk.domain.dto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.turmab.helpdesk.domain.enums.Perfil;
+
+/**
+ * Resumo de um Técnico ou Cliente usado nas listagens paginadas.
+ * <p>
+ * Montado diretamente pela consulta (projeção), sem carregar a entidade, e sem CPF nem
+ * senha: apenas o necessário para exibir a pessoa em uma lista.
+ * </p>
+ */
+public class PessoaResumoDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** ID da pessoa. */
+    private Integer id;
+
+    /** Nome da pessoa. */
+    private String nome;
+
+    /** E-mail da pessoa. */
+    private String email;
+
+    /** Perfis da pessoa. */
+    private Set<Perfil> perfis;
+
+    /** Data de criação do cadastro. */
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    private LocalDate dataCriacao;
+
+    /** Construtor padrão. */
+    public PessoaResumoDTO() {
+        super();
+    }
+
+    /**
+     * Construtor usado pela projeção JPQL.
+     * @param id ID da pessoa.
+     * @param nome Nome da pessoa.
+     * @param email E-mail da pessoa.
+     * @param perfis Máscara de bits dos perfis (coluna PERFIS de PESSOA).
+     * @param dataCriacao Data de criação do cadastro.
+     */
+    public PessoaResumoDTO(Integer id, String nome, String email, Integer perfis, LocalDate dataCriacao) {
+        super();
+        this.id = id;
+        this.nome = nome;
+        this.email = email;
+        this.perfis = Perfil.fromMascara(perfis);
+        this.dataCriacao = dataCriacao;
+    }
+
+    /** Retorna o ID. */
+    public Integer getId() { return id; }
+    /** Define o ID. */
+    public void setId(Integer id) { this.id = id; }
+
+    /** Retorna o nome. */
+    public String getNome() { return nome; }
+    /** Define o nome. */
+    public void setNome(String nome) { this.nome = nome; }
+
+    /** Retorna o e-mail. */
+    public String getEmail() { return email; }
+    /** Define o e-mail. */
+    public void setEmail(String email) { this.email = email; }
+
+    /** Retorna os perfis. */
+    public Set<Perfil> getPerfis() { return perfis; }
+    /** Define os perfis. */
+    public void setPerfis(Set<Perfil> perfis) { this.perfis = perfis; }
+
+    /** Retorna a data de criação. */
+    public LocalDate getDataCriacao() { return dataCriacao; }
+    /** Define a data de criação. */
+    public void setDataCriacao(LocalDate dataCriacao) { this.dataCriacao = dataCriacao; }
+}
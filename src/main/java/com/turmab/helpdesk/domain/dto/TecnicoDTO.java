@@ -1,12 +1,14 @@
 package com.turmab.helpdesk.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.turmab.helpdesk.domain.Tecnico;
 import com.turmab.helpdesk.domain.enums.Perfil;
 
 import javax.validation.constraints.NotEmpty;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,7 +25,9 @@ public class TecnicoDTO {
     @NotEmpty(message = "O campo EMAIL é requerido")
     private String email;
     
+    /** Aceita na entrada, nunca devolvida nas respostas (hash BCrypt). */
     @NotEmpty(message = "O campo SENHA é requerido")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String senha;
     
     @JsonFormat(pattern = "dd/MM/yyyy")
@@ -31,6 +35,9 @@ public class TecnicoDTO {
     
     private Set<Integer> perfis;
     
+    // Versão do registro (somente leitura; na atualização use o cabeçalho If-Match)
+    private Integer version;
+    
     public TecnicoDTO() {
     }
     
@@ -41,6 +48,7 @@ public class TecnicoDTO {
         this.email = obj.getEmail();
         this.senha = obj.getSenha();
         this.dataCriacao = obj.getDataCriacao();
+        this.version = obj.getVersion();
         this.perfis = obj.getPerfis().stream()
                 .map(Perfil::getCodigo)
                 .collect(Collectors.toSet());
@@ -62,7 +70,13 @@ public class TecnicoDTO {
     public String getSenha() { return senha; }
     public void setSenha(String senha) { this.senha = senha; }
     
+    public Integer getVersion() { return version; }
+    public void setVersion(Integer version) { this.version = version; }
+    
     public Set<Perfil> getPerfis() {
+        if (perfis == null) {
+            return Collections.emptySet();
+        }
         return perfis.stream()
                 .map(Perfil::toEnum)
                 .collect(Collectors.toSet());
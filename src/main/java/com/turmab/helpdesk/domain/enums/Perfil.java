@@ -1,5 +1,11 @@
 package com.turmab.helpdesk.domain.enums;
 
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * The Enum Perfil.
  * @author erik.holanda.pires
@@ -30,6 +36,12 @@ public enum Perfil {
 	/** The descricao. */
 	private String descricao;
 	
+	/**
+	 * Conjuntos imutáveis para cada máscara possível (índice = máscara), criados uma única vez.
+	 * Assim carregar ou alterar os perfis de uma pessoa não aloca nenhum objeto.
+	 */
+	private static final Set<Perfil>[] CONJUNTOS = criaConjuntos();
+	
 
 	/**
 	 * Instantiates a new perfil.
@@ -51,6 +63,15 @@ public enum Perfil {
 		return codigo;
 	}
 	
+	/**
+	 * Gets the mascara: bit de posição {@code codigo} ligado.
+	 *
+	 * @return the mascara
+	 */
+	public int getMascara() {
+		return 1 << codigo;
+	}
+	
 	/**
 	 * Gets the descricao.
 	 *
@@ -85,7 +106,59 @@ public enum Perfil {
 		/*
 		 * Esta exceção trata de argumentos ilegais.
 		 */
-		throw new IllegalArgumentException("Perfil Inválido");
+		throw new BadRequestException("Perfil Inválido");
+	}
+	
+	/**
+	 * Converte um conjunto de perfis na máscara de bits gravada na coluna PERFIS de PESSOA.
+	 *
+	 * @param perfis the perfis
+	 * @return the mascara
+	 */
+	public static int toMascara(Set<Perfil> perfis) {
+		int mascara = 0;
+		for (Perfil x : perfis) {
+			mascara |= x.getMascara();
+		}
+		return mascara;
+	}
+	
+	/**
+	 * Retorna o conjunto (imutável e compartilhado) correspondente a uma máscara de bits.
+	 *
+	 * @param mascara the mascara
+	 * @return the perfis
+	 */
+	public static Set<Perfil> fromMascara(int mascara) {
+		if (mascara < 0 || mascara >= CONJUNTOS.length) {
+			// Máscara vinda do banco, não do cliente: valor inválido é erro interno
+			throw new IllegalArgumentException("Máscara de perfis inválida: " + mascara);
+		}
+		return CONJUNTOS[mascara];
+	}
+	
+	/**
+	 * Cria os conjuntos de todas as combinações de perfis.
+	 *
+	 * @return the conjuntos
+	 */
+	@SuppressWarnings("unchecked")
+	private static Set<Perfil>[] criaConjuntos() {
+		int maior = 0;
+		for (Perfil x : values()) {
+			maior |= x.getMascara();
+		}
+		Set<Perfil>[] conjuntos = new Set[maior + 1];
+		for (int mascara = 0; mascara <= maior; mascara++) {
+			EnumSet<Perfil> perfis = EnumSet.noneOf(Perfil.class);
+			for (Perfil x : values()) {
+				if ((mascara & x.getMascara()) != 0) {
+					perfis.add(x);
+				}
+			}
+			conjuntos[mascara] = Collections.unmodifiableSet(perfis);
+		}
+		return conjuntos;
 	}
 	
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.turmab.helpdesk.domain.enums;
 
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
+
 /**
  * Representa os níveis de prioridade de um Chamado no sistema.
  * <p>
@@ -48,7 +50,7 @@ public enum Prioridade {
      * Converte um código numérico para o objeto {@link Prioridade} correspondente.
      * @param codigo O código numérico a ser convertido.
      * @return O objeto Prioridade.
-     * @throws IllegalArgumentException Se o código for inválido.
+     * @throws BadRequestException Se o código for inválido.
      */
     public static Prioridade toEnum(Integer codigo) {
         if (codigo == null) {
@@ -59,6 +61,6 @@ public enum Prioridade {
                 return x;
             }
         }
-        throw new IllegalArgumentException("Prioridade inválida: " + codigo);
+        throw new BadRequestException("Prioridade inválida: " + codigo);
     }
 }
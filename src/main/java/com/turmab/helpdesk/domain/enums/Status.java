@@ -1,5 +1,7 @@
 package com.turmab.helpdesk.domain.enums;
 
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
+
 /**
  * Representa os estados possíveis para um Chamado no sistema (Ciclo de Vida).
  * <p>
@@ -53,7 +55,7 @@ public enum Status {
      * Converte um código numérico para o objeto {@link Status} correspondente.
      * @param state O código numérico a ser convertido.
      * @return O objeto Status.
-     * @throws IllegalArgumentException Se o código for inválido.
+     * @throws BadRequestException Se o código for inválido.
      */
 	public static Status toEnum(Integer state) {
         if (state == null) {
@@ -64,6 +66,6 @@ public enum Status {
                 return x;
             }
         }
-        throw new IllegalArgumentException("Status inválido: " + state);
+        throw new BadRequestException("Status inválido: " + state);
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.turmab.helpdesk.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.turmab.helpdesk.domain.ChamadoExcluido;
+
+public interface ChamadoExcluidoRepository extends JpaRepository<ChamadoExcluido, Integer> {
+
+	/**
+	 * Retorna as exclusões posteriores à posição ({@code desde}, {@code id}) e até a sequência
+	 * {@code ate}, em ordem de sequência e ID (keyset sobre o índice
+	 * {@code idx_chamado_excluido_alteracao}). O tamanho vem de {@code pageable}.
+	 */
+	@Query("SELECT e FROM ChamadoExcluido e "
+			+ "WHERE (e.seqAlteracao > :desde OR (e.seqAlteracao = :desde AND e.id > :id)) "
+			+ "AND e.seqAlteracao <= :ate ORDER BY e.seqAlteracao, e.id")
+	List<ChamadoExcluido> findExcluidosDesde(@Param("desde") Long desde, @Param("id") Integer id,
+			@Param("ate") Long ate, Pageable pageable);
+
+	/**
+	 * Grava a sequência de alteração das exclusões informadas.
+	 * @return quantidade de exclusões marcadas
+	 */
+	@Modifying
+	@Query("UPDATE ChamadoExcluido e SET e.seqAlteracao = :seq WHERE e.id IN :ids")
+	int marcaAlteracao(@Param("ids") Collection<Integer> ids, @Param("seq") Long seq);
+
+	/** Retorna a maior sequência de alteração gravada nas exclusões. */
+	@Query("SELECT MAX(e.seqAlteracao) FROM ChamadoExcluido e")
+	Long findMaxSeqAlteracao();
+}
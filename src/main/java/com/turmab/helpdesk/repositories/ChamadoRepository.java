@@ -1,8 +1,151 @@
 package com.turmab.helpdesk.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
 import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.service.historico.ChamadoEstado;
+import com.turmab.helpdesk.service.sla.ChamadoSla;
+
+public interface ChamadoRepository extends JpaRepository<Chamado,Integer>, ChamadoRepositoryCustom {
+
+	/**
+	 * Projeção de {@link ChamadoDTO} com os nomes do técnico e do cliente obtidos na mesma
+	 * instrução SQL. Nenhuma entidade gerenciada é construída, evitando as consultas extras
+	 * de técnico, cliente e perfis para cada chamado.
+	 */
+	String PROJECAO_DTO = "SELECT new com.turmab.helpdesk.domain.dto.ChamadoDTO("
+			+ "c.id, c.dataAbertura, c.prioridade, c.status, c.titulo, c.observacoes, "
+			+ "t.id, t.nome, cl.id, cl.nome, c.version, c.dataAtualizacao) "
+			+ "FROM Chamado c JOIN c.tecnico t JOIN c.cliente cl ";
+
+	/** Projeção dos campos acompanhados pelo {@link com.turmab.helpdesk.service.sla.SlaService}. */
+	String PROJECAO_SLA = "SELECT new com.turmab.helpdesk.service.sla.ChamadoSla("
+			+ "c.id, c.titulo, c.prioridade, c.status, c.tecnico.id, c.dataHoraAbertura, c.dataAbertura) "
+			+ "FROM Chamado c ";
+
+	/** Retorna todos os chamados já projetados em {@link ChamadoDTO}. */
+	@Query(PROJECAO_DTO + "ORDER BY c.id")
+	List<ChamadoDTO> findAllDTO();
+
+	/** Retorna um chamado já projetado em {@link ChamadoDTO}. */
+	@Query(PROJECAO_DTO + "WHERE c.id = :id")
+	Optional<ChamadoDTO> findDTOById(@Param("id") Integer id);
+
+	/** Retorna os chamados informados já projetados em {@link ChamadoDTO} (IDs inexistentes são ignorados). */
+	@Query(PROJECAO_DTO + "WHERE c.id IN :ids ORDER BY c.id")
+	List<ChamadoDTO> findAllDTOByIdIn(@Param("ids") Collection<Integer> ids);
+
+	/**
+	 * Retorna os campos acompanhados pelo histórico dos chamados informados, sem carregar
+	 * as entidades. Usado antes das alterações em massa, que não passam pela entidade.
+	 * <p>
+	 * As linhas ficam bloqueadas ({@code SELECT ... FOR UPDATE}) até o fim da transação, que
+	 * deve existir: assim nenhuma alteração concorrente muda o estado entre a leitura e o
+	 * UPDATE, e o estado anterior registrado é o que de fato foi substituído. A ordem por ID
+	 * mantém a mesma ordem de bloqueio em todas as transações.
+	 * </p>
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT new com.turmab.helpdesk.service.historico.ChamadoEstado("
+			+ "c.id, c.status, c.prioridade, c.tecnico.id) FROM Chamado c WHERE c.id IN :ids ORDER BY c.id")
+	List<ChamadoEstado> findEstadosByIdIn(@Param("ids") Collection<Integer> ids);
+
+	/**
+	 * Retorna os campos acompanhados pelo histórico e a versão de um chamado, sem bloqueio.
+	 * Usado pela alteração parcial, que só aplica o UPDATE se a versão lida ainda for a atual.
+	 */
+	@Query("SELECT new com.turmab.helpdesk.service.historico.ChamadoEstado("
+			+ "c.id, c.status, c.prioridade, c.tecnico.id, c.version) FROM Chamado c WHERE c.id = :id")
+	Optional<ChamadoEstado> findEstadoById(@Param("id") Integer id);
+
+	/**
+	 * Conta os chamados que não estão no status informado, agrupados por técnico e prioridade.
+	 * Cada linha contém o ID do técnico, a {@link com.turmab.helpdesk.domain.enums.Prioridade}
+	 * e a quantidade.
+	 */
+	@Query("SELECT c.tecnico.id, c.prioridade, COUNT(c) FROM Chamado c WHERE c.status <> :status "
+			+ "GROUP BY c.tecnico.id, c.prioridade")
+	List<Object[]> countPorTecnicoEPrioridadeExcetoStatus(@Param("status") Status status);
+
+	/** Retorna os chamados nos status informados, com os campos de SLA. */
+	@Query(PROJECAO_SLA + "WHERE c.status IN :status")
+	List<ChamadoSla> findSlaByStatusIn(@Param("status") Collection<Status> status);
+
+	/** Retorna os chamados informados, com os campos de SLA (IDs inexistentes são ignorados). */
+	@Query(PROJECAO_SLA + "WHERE c.id IN :ids")
+	List<ChamadoSla> findSlaByIdIn(@Param("ids") Collection<Integer> ids);
+
+	/**
+	 * Percorre todos os chamados, já projetados, com um cursor somente-avanço
+	 * ({@code ScrollMode.FORWARD_ONLY}) e tamanho de busca limitado. As linhas são lidas do
+	 * driver em blocos conforme o consumo, sem materializar a lista inteira em memória.
+	 * Deve ser chamado dentro de uma transação e o {@link Stream} deve ser fechado após o uso.
+	 */
+	@QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500"))
+	@Query(PROJECAO_DTO + "ORDER BY c.id")
+	Stream<ChamadoDTO> streamAllDTO();
+
+	/**
+	 * Retorna a sequência de alteração e o ID dos chamados alterados depois da posição
+	 * ({@code desde}, {@code id}) e até a sequência {@code ate}, nessa ordem (keyset lido
+	 * apenas do índice {@code idx_chamado_alteracao}). O tamanho vem de {@code pageable}.
+	 */
+	@Query("SELECT c.seqAlteracao, c.id FROM Chamado c "
+			+ "WHERE (c.seqAlteracao > :desde OR (c.seqAlteracao = :desde AND c.id > :id)) "
+			+ "AND c.seqAlteracao <= :ate ORDER BY c.seqAlteracao, c.id")
+	List<Object[]> findAlteracoesDesde(@Param("desde") Long desde, @Param("id") Integer id,
+			@Param("ate") Long ate, Pageable pageable);
+
+	/**
+	 * Grava a sequência de alteração dos chamados informados. Não altera a versão:
+	 * não é uma alteração de conteúdo.
+	 * @return quantidade de chamados marcados
+	 */
+	@Modifying
+	@Query("UPDATE Chamado c SET c.seqAlteracao = :seq WHERE c.id IN :ids")
+	int marcaAlteracao(@Param("ids") Collection<Integer> ids, @Param("seq") Long seq);
+
+	/** Retorna a maior sequência de alteração gravada nos chamados. */
+	@Query("SELECT MAX(c.seqAlteracao) FROM Chamado c")
+	Long findMaxSeqAlteracao();
+
+	/**
+	 * Altera o status de vários chamados com uma única instrução UPDATE.
+	 * A data de atualização é informada, pois o UPDATE em massa não passa pelo {@code @PreUpdate}.
+	 * @return quantidade de chamados alterados
+	 */
+	@Modifying
+	@Query("UPDATE Chamado c SET c.status = :status, c.version = c.version + 1, "
+			+ "c.dataAtualizacao = :agora WHERE c.id IN :ids")
+	int updateStatus(@Param("ids") Collection<Integer> ids, @Param("status") Status status,
+			@Param("agora") Instant agora);
 
-public interface ChamadoRepository extends JpaRepository<Chamado,Integer>{
-	
+	/**
+	 * Atribui vários chamados ao técnico com uma única instrução UPDATE.
+	 * A data de atualização é informada, pois o UPDATE em massa não passa pelo {@code @PreUpdate}.
+	 * @return quantidade de chamados alterados
+	 */
+	@Modifying
+	@Query("UPDATE Chamado c SET c.tecnico = :tecnico, c.version = c.version + 1, "
+			+ "c.dataAtualizacao = :agora WHERE c.id IN :ids")
+	int updateTecnico(@Param("ids") Collection<Integer> ids, @Param("tecnico") Tecnico tecnico,
+			@Param("agora") Instant agora);
 }
@@ -0,0 +1,37 @@
+package com.turmab.helpdesk.repositories;
+
+import java.util.List;
+
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoFiltroDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoPatchDTO;
+
+/**
+ * Consultas de {@link com.turmab.helpdesk.domain.Chamado} montadas dinamicamente
+ * com a Criteria API, incorporadas ao {@link ChamadoRepository}.
+ */
+public interface ChamadoRepositoryCustom {
+
+	/**
+	 * Busca uma página de chamados que atendem ao filtro, com ID maior que {@code after},
+	 * em ordem crescente de ID, já projetados em {@link ChamadoDTO}.
+	 *
+	 * @param filtro critérios de filtro (campos nulos são ignorados)
+	 * @param after último ID da página anterior ou {@code null} para a primeira página
+	 * @param limit quantidade máxima de chamados a retornar
+	 * @return lista com até {@code limit} chamados
+	 */
+	List<ChamadoDTO> findDTOPage(ChamadoFiltroDTO filtro, Integer after, int limit);
+
+	/**
+	 * Aplica uma alteração parcial com uma única instrução UPDATE, sem carregar o chamado.
+	 * Apenas os campos não nulos de {@code patch} entram na cláusula SET; técnico e cliente
+	 * são atribuídos por referência ao ID.
+	 *
+	 * @param id ID do chamado
+	 * @param patch campos a alterar (ao menos um não nulo)
+	 * @param versao versão esperada do chamado ou {@code null} para não verificar
+	 * @return quantidade de registros alterados (0 se o chamado não existir ou estiver em outra versão)
+	 */
+	int patch(Integer id, ChamadoPatchDTO patch, Integer versao);
+}
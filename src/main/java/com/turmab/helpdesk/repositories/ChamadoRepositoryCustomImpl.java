@@ -0,0 +1,118 @@
+package com.turmab.helpdesk.repositories;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoFiltroDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoPatchDTO;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+
+/**
+ * Implementação de {@link ChamadoRepositoryCustom}.
+ * <p>
+ * Apenas os critérios informados entram na cláusula WHERE, de modo que o banco possa usar
+ * os índices de {@link Chamado} (status, prioridade, dataAbertura) e das chaves estrangeiras
+ * de técnico e cliente.
+ * </p>
+ */
+public class ChamadoRepositoryCustomImpl implements ChamadoRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@Override
+	public List<ChamadoDTO> findDTOPage(ChamadoFiltroDTO filtro, Integer after, int limit) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<ChamadoDTO> cq = cb.createQuery(ChamadoDTO.class);
+		Root<Chamado> c = cq.from(Chamado.class);
+		Join<Chamado, Tecnico> t = c.join("tecnico");
+		Join<Chamado, Cliente> cl = c.join("cliente");
+
+		cq.select(cb.construct(ChamadoDTO.class,
+				c.get("id"), c.get("dataAbertura"), c.get("prioridade"), c.get("status"),
+				c.get("titulo"), c.get("observacoes"), t.get("id"), t.get("nome"),
+				cl.get("id"), cl.get("nome"), c.get("version"), c.get("dataAtualizacao")));
+
+		List<Predicate> predicates = new ArrayList<>();
+		if (after != null) {
+			predicates.add(cb.greaterThan(c.<Integer>get("id"), after));
+		}
+		if (filtro.getStatus() != null) {
+			predicates.add(cb.equal(c.get("status"), Status.toEnum(filtro.getStatus())));
+		}
+		if (filtro.getPrioridade() != null) {
+			predicates.add(cb.equal(c.get("prioridade"), Prioridade.toEnum(filtro.getPrioridade())));
+		}
+		if (filtro.getTecnico() != null) {
+			// Compara a chave estrangeira da tabela de chamados, sem depender da junção
+			predicates.add(cb.equal(c.get("tecnico").get("id"), filtro.getTecnico()));
+		}
+		if (filtro.getCliente() != null) {
+			predicates.add(cb.equal(c.get("cliente").get("id"), filtro.getCliente()));
+		}
+		if (filtro.getDataInicio() != null) {
+			predicates.add(cb.greaterThanOrEqualTo(c.<LocalDate>get("dataAbertura"), filtro.getDataInicio()));
+		}
+		if (filtro.getDataFim() != null) {
+			predicates.add(cb.lessThanOrEqualTo(c.<LocalDate>get("dataAbertura"), filtro.getDataFim()));
+		}
+
+		cq.where(predicates.toArray(new Predicate[0]));
+		cq.orderBy(cb.asc(c.get("id")));
+
+		return em.createQuery(cq).setMaxResults(limit).getResultList();
+	}
+
+	@Override
+	public int patch(Integer id, ChamadoPatchDTO patch, Integer versao) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaUpdate<Chamado> cu = cb.createCriteriaUpdate(Chamado.class);
+		Root<Chamado> c = cu.from(Chamado.class);
+
+		if (patch.getPrioridade() != null) {
+			cu.set(c.get("prioridade"), Prioridade.toEnum(patch.getPrioridade()));
+		}
+		if (patch.getStatus() != null) {
+			cu.set(c.get("status"), Status.toEnum(patch.getStatus()));
+		}
+		if (patch.getTitulo() != null) {
+			cu.set(c.get("titulo"), patch.getTitulo());
+		}
+		if (patch.getObservacoes() != null) {
+			cu.set(c.get("observacoes"), patch.getObservacoes());
+		}
+		if (patch.getTecnico() != null) {
+			// Referência sem SELECT: a existência é garantida pela chave estrangeira
+			cu.set(c.get("tecnico"), em.getReference(Tecnico.class, patch.getTecnico()));
+		}
+		if (patch.getCliente() != null) {
+			cu.set(c.get("cliente"), em.getReference(Cliente.class, patch.getCliente()));
+		}
+		cu.set(c.<Integer>get("version"), cb.sum(c.<Integer>get("version"), 1));
+		// UPDATE em massa não passa pelo @PreUpdate da entidade
+		cu.set(c.<Instant>get("dataAtualizacao"), Instant.now());
+		if (versao != null) {
+			cu.where(cb.equal(c.get("id"), id), cb.equal(c.get("version"), versao));
+		} else {
+			cu.where(cb.equal(c.get("id"), id));
+		}
+
+		return em.createQuery(cu).executeUpdate();
+	}
+}
@@ -1,11 +1,37 @@
 package com.turmab.helpdesk.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.dto.PessoaResumoDTO;
 
 public interface ClienteRepository extends JpaRepository<Cliente,Integer>{
-	Optional<Cliente> findByCpf(String cpf);
+
+    /** Consulta mantida no cache de consultas do Hibernate (invalidado a cada escrita em PESSOA). */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    Optional<Cliente> findByCpf(String cpf);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Cliente> findByEmail(String email);
+
+    /** Retorna, entre os IDs informados, apenas os que existem, em uma única consulta. */
+    @Query("SELECT c.id FROM Cliente c WHERE c.id IN :ids")
+    List<Integer> findIdsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Retorna uma página de clientes com ID maior que {@code after} (keyset), já projetados em
+     * {@link PessoaResumoDTO} por uma única consulta. O tamanho vem de {@code pageable}.
+     */
+    @Query("SELECT new com.turmab.helpdesk.domain.dto.PessoaResumoDTO(c.id, c.nome, c.email, c.perfis, c.dataCriacao) "
+            + "FROM Cliente c WHERE (:after IS NULL OR c.id > :after) ORDER BY c.id")
+    List<PessoaResumoDTO> findResumoPage(@Param("after") Integer after, Pageable pageable);
 }
@@ -0,0 +1,24 @@
+package com.turmab.helpdesk.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.turmab.helpdesk.domain.ContadorAlteracao;
+
+public interface ContadorAlteracaoRepository extends JpaRepository<ContadorAlteracao, Integer> {
+
+	/**
+	 * Incrementa o contador. A linha fica bloqueada até o fim da transação, o que
+	 * serializa as transações que alteram Chamados no instante do commit.
+	 * @return quantidade de linhas alteradas (0 se o contador ainda não existir)
+	 */
+	@Modifying
+	@Query("UPDATE ContadorAlteracao c SET c.valor = c.valor + 1 WHERE c.id = "
+			+ ContadorAlteracao.ID)
+	int incrementa();
+
+	/** Retorna o valor atual do contador, ou {@code null} se ainda não existir. */
+	@Query("SELECT c.valor FROM ContadorAlteracao c WHERE c.id = " + ContadorAlteracao.ID)
+	Long findValor();
+}
@@ -2,12 +2,53 @@ package com.turmab.helpdesk.repositories;
 
 import com.turmab.helpdesk.domain.Pessoa;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 
 public interface PessoaRepository extends JpaRepository<Pessoa, Integer> {
     
+    /** Consulta mantida no cache de consultas do Hibernate (invalidado a cada escrita em PESSOA). */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Pessoa> findByEmail(String email);
     
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Pessoa> findByCpf(String cpf);
-}
\ No newline at end of file
+
+    /**
+     * Indica, em uma única consulta, quais campos únicos ({@code CPF}, {@code EMAIL}) já
+     * pertencem a outra pessoa.
+     *
+     * <p>
+     * Usada apenas para montar a mensagem quando o INSERT/UPDATE é recusado pela restrição
+     * de unicidade. Roda em transação própria porque a sessão da gravação que falhou não
+     * pode mais ser usada (uma consulta nela tentaria o flush de novo). Não é somente
+     * leitura: a consulta precisa ir ao banco principal, que acabou de recusar a gravação;
+     * uma réplica atrasada ainda poderia não ter a linha em conflito.
+     * </p>
+     *
+     * @param id ID da pessoa sendo alterada, ou {@code null} na criação
+     * @return {@code "CPF"} e/ou {@code "EMAIL"} para cada pessoa em conflito
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("SELECT CASE WHEN p.cpf = :cpf THEN 'CPF' ELSE 'EMAIL' END FROM Pessoa p "
+            + "WHERE (p.cpf = :cpf OR p.email = :email) AND (:id IS NULL OR p.id <> :id)")
+    List<String> findCamposEmUso(@Param("cpf") String cpf, @Param("email") String email, @Param("id") Integer id);
+
+    /**
+     * Troca o hash da senha apenas se o hash atual ainda for {@code antigo}.
+     *
+     * @return quantidade de registros alterados (0 se a senha foi trocada nesse meio tempo)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Pessoa p SET p.senha = :novo, p.version = p.version + 1 WHERE p.id = :id AND p.senha = :antigo")
+    int updateSenha(@Param("id") Integer id, @Param("antigo") String antigo, @Param("novo") String novo);
+}
@@ -1,12 +1,42 @@
 package com.turmab.helpdesk.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.PessoaResumoDTO;
 
 public interface TecnicoRepository extends JpaRepository<Tecnico,Integer>{
-	Optional<Tecnico> findByCpf(String cpf);
+
+    /** Consulta mantida no cache de consultas do Hibernate (invalidado a cada escrita em PESSOA). */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    Optional<Tecnico> findByCpf(String cpf);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Tecnico> findByEmail(String email);
+
+    /** Retorna os IDs de todos os técnicos. */
+    @Query("SELECT t.id FROM Tecnico t")
+    List<Integer> findAllIds();
+
+    /** Retorna, entre os IDs informados, apenas os que existem, em uma única consulta. */
+    @Query("SELECT t.id FROM Tecnico t WHERE t.id IN :ids")
+    List<Integer> findIdsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Retorna uma página de técnicos com ID maior que {@code after} (keyset), já projetados em
+     * {@link PessoaResumoDTO} por uma única consulta. O tamanho vem de {@code pageable}.
+     */
+    @Query("SELECT new com.turmab.helpdesk.domain.dto.PessoaResumoDTO(t.id, t.nome, t.email, t.perfis, t.dataCriacao) "
+            + "FROM Tecnico t WHERE (:after IS NULL OR t.id > :after) ORDER BY t.id")
+    List<PessoaResumoDTO> findResumoPage(@Param("after") Integer after, Pageable pageable);
 }
@@ -1,17 +1,41 @@
 package com.turmab.helpdesk.resources;
 
 import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.dto.ChamadoBulkAssignDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoBulkResultadoDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoBulkStatusDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoChangesDTO;
 import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoFiltroDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoLoteDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoPatchDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoSlaDTO;
+import com.turmab.helpdesk.domain.dto.CursorPageDTO;
+import com.turmab.helpdesk.domain.enums.Status;
 import com.turmab.helpdesk.service.ChamadoService;
+import com.turmab.helpdesk.service.eventos.ChamadoStreamService;
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
+import com.turmab.helpdesk.service.sla.SlaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Controlador REST para a entidade Chamado.
@@ -24,35 +48,263 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping(value = "/chamados")
 public class ChamadoResource {
-    
+
+    /** Tamanho de página usado quando o parâmetro {@code limit} não é informado. */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    /** Tamanho máximo de página aceito na paginação por cursor. */
+    private static final int MAX_PAGE_SIZE = 500;
+
+    /** Quantidade de linhas exportadas entre cada envio forçado ao cliente. */
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
+    /** Cabeçalho do arquivo CSV de exportação. */
+    private static final String CSV_HEADER =
+            "id,dataAbertura,prioridade,status,titulo,observacoes,tecnico,nomeTecnico,cliente,nomeCliente\n";
+
     /** Serviço para acesso à lógica de negócio de Chamados. */
     @Autowired
     private ChamadoService service;
+
+    /** Feed SSE de alterações de Chamados. */
+    @Autowired
+    private ChamadoStreamService streamService;
+
+    /** Acompanhamento dos prazos de SLA. */
+    @Autowired
+    private SlaService slaService;
+
+    /** Conversor JSON da aplicação, usado na exportação NDJSON. */
+    @Autowired
+    private ObjectMapper objectMapper;
     
     /**
      * Retorna um Chamado específico pelo seu ID.
+     * <p>
+     * A resposta traz a versão do Chamado no cabeçalho {@code ETag}. Se o cliente enviar
+     * a mesma versão em {@code If-None-Match}, a resposta é 304 sem corpo.
+     * </p>
      * * @param id O ID do Chamado a ser buscado.
-     * @return ResponseEntity contendo o ChamadoDTO (Status 200 OK).
+     * @param request A requisição, usada para comparar o {@code If-None-Match}.
+     * @return ResponseEntity contendo o ChamadoDTO (Status 200 OK) ou Status 304 Not Modified.
      */
     @GetMapping(value = "/{id}")
-    public ResponseEntity<ChamadoDTO> findById(@PathVariable Integer id) {
-        Chamado obj = service.findById(id);
-        return ResponseEntity.ok().body(new ChamadoDTO(obj));
+    public ResponseEntity<ChamadoDTO> findById(@PathVariable Integer id, WebRequest request) {
+        ChamadoDTO objDTO = service.findDTOById(id);
+        String etag = ETags.etag(objDTO.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(objDTO);
     }
     
     /**
      * Retorna uma lista com todos os Chamados cadastrados.
+     * <p>
+     * Atende apenas requisições sem parâmetros de filtro ou de paginação; as demais são
+     * atendidas por {@link #findPage(ChamadoFiltroDTO, String, Integer)}.
+     * </p>
      * * @return ResponseEntity contendo uma lista de ChamadoDTO (Status 200 OK).
      */
-    @GetMapping
+    @GetMapping(params = { "!limit", "!after", "!status", "!prioridade", "!tecnico", "!cliente",
+            "!dataInicio", "!dataFim" })
     public ResponseEntity<List<ChamadoDTO>> findAll() {
-        List<Chamado> list = service.findAll();
-        List<ChamadoDTO> listDTO = list.stream()
-                .map(ChamadoDTO::new)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok().body(listDTO);
+        return ResponseEntity.ok().body(service.findAll());
     }
-    
+
+    /**
+     * Retorna uma página de Chamados filtrados, usando paginação por cursor (keyset).
+     * <p>
+     * Ativado quando qualquer parâmetro de filtro ({@code status}, {@code prioridade},
+     * {@code tecnico}, {@code cliente}, {@code dataInicio}, {@code dataFim}) ou de paginação
+     * ({@code limit}, {@code after}) é informado. Para obter a próxima página, o cliente
+     * envia em {@code after} o valor de {@code nextCursor} da resposta anterior.
+     * </p>
+     * * @param filtro Os critérios de filtro informados na requisição.
+     * @param after Cursor opaco da página anterior (opcional).
+     * @param limit Quantidade máxima de Chamados na página (padrão {@value #DEFAULT_PAGE_SIZE},
+     * limitada a {@value #MAX_PAGE_SIZE}).
+     * @return ResponseEntity contendo a página de ChamadoDTO e o próximo cursor (Status 200 OK).
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageDTO<ChamadoDTO>> findPage(
+            ChamadoFiltroDTO filtro,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Busca um registro a mais para saber se existe uma próxima página
+        List<ChamadoDTO> list = service.findPage(filtro, CursorPageDTO.decodeCursor(after), pageSize + 1);
+        boolean hasNext = list.size() > pageSize;
+        List<ChamadoDTO> listDTO = hasNext ? list.subList(0, pageSize) : list;
+        String nextCursor = hasNext ? CursorPageDTO.encodeCursor(listDTO.get(pageSize - 1).getId()) : null;
+        return ResponseEntity.ok().body(new CursorPageDTO<>(listDTO, nextCursor, pageSize));
+    }
+
+    /**
+     * Exporta todos os Chamados em streaming, no formato NDJSON (um objeto JSON por linha)
+     * ou CSV.
+     * <p>
+     * As linhas são lidas do banco por um cursor somente-avanço e escritas na resposta
+     * à medida que chegam, de modo que o uso de memória não depende da quantidade de
+     * Chamados e o primeiro byte é enviado imediatamente.
+     * </p>
+     * * @param format O formato de saída: {@code ndjson} (padrão) ou {@code csv}.
+     * @return ResponseEntity com o corpo em streaming (Status 200 OK).
+     */
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        boolean csv;
+        if ("csv".equalsIgnoreCase(format)) {
+            csv = true;
+        } else if ("ndjson".equalsIgnoreCase(format)) {
+            csv = false;
+        } else {
+            throw new BadRequestException("Formato de exportação inválido: " + format);
+        }
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (csv) {
+                writer.write(CSV_HEADER);
+            }
+            // Envia o início da resposta antes de consultar o banco
+            writer.flush();
+            int[] rows = {0};
+            try {
+                service.exportAll(dto -> {
+                    try {
+                        if (csv) {
+                            writeCsv(writer, dto);
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(dto));
+                            writer.write('\n');
+                        }
+                        if (++rows[0] % EXPORT_FLUSH_ROWS == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                                 : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=chamados." + (csv ? "csv" : "ndjson"))
+                .body(body);
+    }
+
+    /**
+     * Acompanha as alterações de Chamados em tempo real, via Server-Sent Events.
+     * <p>
+     * Cada criação, alteração ou exclusão confirmada gera um evento ({@code criado},
+     * {@code alterado} ou {@code excluido}) com o ChamadoDTO em JSON, em vez de o painel
+     * recarregar a lista inteira periodicamente. Um Chamado que sai do filtro (mudou de
+     * status ou de técnico) gera {@code removido}. O painel carrega a lista uma vez e
+     * aplica os eventos; se a conexão cair, recarrega a lista ao reconectar.
+     * </p>
+     * * @param tecnico ID do técnico cujos Chamados serão enviados (opcional).
+     * @param status Código do status dos Chamados enviados (opcional).
+     * @return A conexão SSE.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(value = "tecnico", required = false) Integer tecnico,
+                             @RequestParam(value = "status", required = false) Integer status) {
+        return streamService.assinar(tecnico, Status.toEnum(status));
+    }
+
+    /**
+     * Retorna os Chamados em risco de SLA: com o prazo de resposta ou de resolução em
+     * alerta ou já vencido, do vencimento mais próximo para o mais distante.
+     * <p>
+     * Os prazos são mantidos em memória pelo {@link SlaService}; a consulta não acessa o banco.
+     * </p>
+     * * @param tecnico ID do técnico cujos Chamados serão retornados (opcional).
+     * @return ResponseEntity contendo a lista de ChamadoSlaDTO (Status 200 OK).
+     */
+    @GetMapping(value = "/sla")
+    public ResponseEntity<List<ChamadoSlaDTO>> sla(@RequestParam(value = "tecnico", required = false) Integer tecnico) {
+        return ResponseEntity.ok().body(slaService.findEmRisco(tecnico));
+    }
+
+    /**
+     * Retorna as alterações de Chamados desde a última sincronização, para clientes que
+     * mantêm uma cópia local (móveis e offline).
+     * <p>
+     * Sem {@code since}, retorna tudo desde o início. O cliente guarda o token {@code next}
+     * da resposta e o envia em {@code since} na próxima sincronização, recebendo apenas os
+     * Chamados criados ou alterados e os IDs dos excluídos depois disso. Enquanto
+     * {@code hasMore} for {@code true}, deve repetir a chamada com o novo token.
+     * </p>
+     * * @param since Token da última sincronização (opcional).
+     * @param limit Quantidade máxima de alterações na resposta (padrão {@value #DEFAULT_PAGE_SIZE},
+     * limitada a {@value #MAX_PAGE_SIZE}).
+     * @return ResponseEntity contendo as alterações e o próximo token (Status 200 OK).
+     */
+    @GetMapping(value = "/changes")
+    public ResponseEntity<ChamadoChangesDTO> changes(
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return ResponseEntity.ok().body(service.findChanges(since, pageSize));
+    }
+
+    /**
+     * Escreve um Chamado como uma linha CSV.
+     * @param writer O destino da escrita.
+     * @param dto O Chamado a ser escrito.
+     * @throws IOException Em caso de erro de escrita.
+     */
+    private static void writeCsv(Writer writer, ChamadoDTO dto) throws IOException {
+        writer.write(String.valueOf(dto.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(dto.getDataAbertura()));
+        writer.write(',');
+        writer.write(dto.getPrioridade().name());
+        writer.write(',');
+        writer.write(dto.getStatus().name());
+        writer.write(',');
+        writeCsvField(writer, dto.getTitulo());
+        writer.write(',');
+        writeCsvField(writer, dto.getObservacoes());
+        writer.write(',');
+        writer.write(String.valueOf(dto.getTecnico()));
+        writer.write(',');
+        writeCsvField(writer, dto.getNomeTecnico());
+        writer.write(',');
+        writer.write(String.valueOf(dto.getCliente()));
+        writer.write(',');
+        writeCsvField(writer, dto.getNomeCliente());
+        writer.write('\n');
+    }
+
+    /**
+     * Escreve um campo de texto CSV, colocando-o entre aspas quando necessário (RFC 4180).
+     * @param writer O destino da escrita.
+     * @param value O valor do campo.
+     * @throws IOException Em caso de erro de escrita.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
     /**
      * Cria um novo Chamado no sistema.
      * * @param objDTO O ChamadoDTO com os dados para criação.
@@ -65,18 +317,102 @@ public class ChamadoResource {
                 .path("/{id}").buildAndExpand(newObj.getId()).toUri();
         return ResponseEntity.created(uri).build();
     }
+
+    /**
+     * Cria um novo Chamado atribuído automaticamente ao técnico com a menor carga de
+     * trabalho ({@code POST /chamados?autoAtribuir=true}).
+     * <p>
+     * O campo {@code tecnico} não precisa ser informado e, se informado, é ignorado.
+     * </p>
+     * * @param objDTO O ChamadoDTO com os dados para criação.
+     * @return ResponseEntity (Status 201 Created) com a URI para o novo recurso.
+     */
+    @PostMapping(params = "autoAtribuir=true")
+    public ResponseEntity<ChamadoDTO> createAutoAtribuido(@RequestBody ChamadoDTO objDTO) {
+        Chamado newObj = service.createAutoAtribuido(objDTO);
+        // Sem a query string da requisição (autoAtribuir)
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}").buildAndExpand(newObj.getId()).toUri();
+        return ResponseEntity.created(uri).build();
+    }
+    
+    /**
+     * Cria vários Chamados de uma vez, por exemplo na importação de outros sistemas.
+     * <p>
+     * Cada item é validado individualmente; os inválidos são rejeitados e os demais
+     * são inseridos em lotes JDBC, em transações de até
+     * {@code helpdesk.chamado.batch.flush-size} itens. Itens recusados pelo banco são
+     * reportados com erro sem desfazer os demais.
+     * </p>
+     * * @param objDTOs Array de ChamadoDTO com os dados para criação.
+     * @return ResponseEntity (Status 200 OK) com os totais e o resultado de cada item.
+     */
+    @PostMapping(value = "/batch")
+    public ResponseEntity<ChamadoLoteDTO> createBatch(@RequestBody List<ChamadoDTO> objDTOs) {
+        return ResponseEntity.ok().body(new ChamadoLoteDTO(service.createBatch(objDTOs)));
+    }
     
     /**
      * Atualiza um Chamado existente pelo seu ID.
+     * <p>
+     * Com o cabeçalho {@code If-Match}, a alteração só é feita se o Chamado ainda estiver
+     * na versão informada; caso contrário a resposta é 412 Precondition Failed.
+     * </p>
      * * @param id O ID do Chamado a ser atualizado.
+     * @param ifMatch O ETag da versão esperada (opcional).
      * @param objDTO O ChamadoDTO com os novos dados.
-     * @return ResponseEntity contendo o ChamadoDTO atualizado (Status 200 OK).
+     * @return ResponseEntity contendo o ChamadoDTO atualizado e o novo ETag (Status 200 OK).
      */
     @PutMapping(value = "/{id}")
-    public ResponseEntity<ChamadoDTO> update(@PathVariable Integer id, 
+    public ResponseEntity<ChamadoDTO> update(@PathVariable Integer id,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                             @Valid @RequestBody ChamadoDTO objDTO) {
-        Chamado obj = service.update(id, objDTO);
-        return ResponseEntity.ok().body(new ChamadoDTO(obj));
+        Chamado obj = service.update(id, objDTO, ETags.ifMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.etag(obj.getVersion())).body(new ChamadoDTO(obj));
+    }
+    
+    /**
+     * Altera apenas os campos informados de um Chamado (por exemplo, só o status).
+     * <p>
+     * Com o cabeçalho {@code If-Match}, a versão é verificada na própria instrução UPDATE
+     * e a resposta traz o ETag da nova versão; se o Chamado estiver em outra versão, a
+     * resposta é 412 Precondition Failed.
+     * </p>
+     * * @param id O ID do Chamado a ser alterado.
+     * @param ifMatch O ETag da versão esperada (opcional).
+     * @param patch Os campos a alterar.
+     * @return ResponseEntity (Status 204 No Content).
+     */
+    @PatchMapping(value = "/{id}")
+    public ResponseEntity<Void> patch(@PathVariable Integer id,
+                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                      @RequestBody ChamadoPatchDTO patch) {
+        Integer versao = ETags.ifMatch(ifMatch);
+        service.patch(id, patch, versao);
+        if (versao == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.noContent().eTag(ETags.etag(versao + 1)).build();
+    }
+    
+    /**
+     * Altera o status de vários Chamados de uma vez (até 1000 por requisição).
+     * * @param objDTO Os IDs dos Chamados e o novo status.
+     * @return ResponseEntity com a quantidade de Chamados alterados (Status 200 OK).
+     */
+    @PostMapping(value = "/bulk-status")
+    public ResponseEntity<ChamadoBulkResultadoDTO> bulkStatus(@Valid @RequestBody ChamadoBulkStatusDTO objDTO) {
+        return ResponseEntity.ok().body(service.updateStatus(objDTO.getIds(), objDTO.getStatus()));
+    }
+
+    /**
+     * Atribui vários Chamados a um Técnico de uma vez (até 1000 por requisição).
+     * * @param objDTO Os IDs dos Chamados e o ID do técnico.
+     * @return ResponseEntity com a quantidade de Chamados alterados (Status 200 OK).
+     */
+    @PostMapping(value = "/bulk-assign")
+    public ResponseEntity<ChamadoBulkResultadoDTO> bulkAssign(@Valid @RequestBody ChamadoBulkAssignDTO objDTO) {
+        return ResponseEntity.ok().body(service.updateTecnico(objDTO.getIds(), objDTO.getTecnico()));
     }
     
     /**
@@ -2,10 +2,14 @@ package com.turmab.helpdesk.resources;
 
 import com.turmab.helpdesk.domain.Cliente;
 import com.turmab.helpdesk.domain.dto.ClienteDTO;
+import com.turmab.helpdesk.domain.dto.CursorPageDTO;
+import com.turmab.helpdesk.domain.dto.PessoaResumoDTO;
 import com.turmab.helpdesk.service.ClienteService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
@@ -25,6 +29,12 @@ import java.util.stream.Collectors;
 @RequestMapping(value = "/clientes")
 public class ClienteResource {
     
+    /** Tamanho de página usado quando o parâmetro {@code limit} não é informado. */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    /** Tamanho máximo de página aceito na paginação por cursor. */
+    private static final int MAX_PAGE_SIZE = 500;
+
     /** Serviço para acesso à lógica de negócio de Clientes. */
     @Autowired
     private ClienteService service;
@@ -32,19 +42,29 @@ public class ClienteResource {
     /**
      * Retorna um Cliente específico pelo seu ID.
      * * @param id O ID do Cliente a ser buscado.
-     * @return ResponseEntity contendo o ClienteDTO (Status 200 OK).
+     * @param request A requisição, usada para comparar o {@code If-None-Match}.
+     * @return ResponseEntity contendo o ClienteDTO e o ETag da versão (Status 200 OK)
+     * ou Status 304 Not Modified se a versão for a mesma do {@code If-None-Match}.
      */
     @GetMapping(value = "/{id}")
-    public ResponseEntity<ClienteDTO> findById(@PathVariable Integer id) {
+    public ResponseEntity<ClienteDTO> findById(@PathVariable Integer id, WebRequest request) {
         Cliente obj = service.findById(id);
-        return ResponseEntity.ok().body(new ClienteDTO(obj));
+        String etag = ETags.etag(obj.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(new ClienteDTO(obj));
     }
     
     /**
      * Retorna uma lista com todos os Clientes cadastrados.
+     * <p>
+     * Atende apenas requisições sem {@code limit}/{@code after}; as demais são atendidas
+     * por {@link #findPage(String, Integer)}.
+     * </p>
      * * @return ResponseEntity contendo uma lista de ClienteDTO (Status 200 OK).
      */
-    @GetMapping
+    @GetMapping(params = { "!limit", "!after" })
     public ResponseEntity<List<ClienteDTO>> findAll() {
         List<Cliente> list = service.findAll();
         List<ClienteDTO> listDTO = list.stream()
@@ -53,6 +73,32 @@ public class ClienteResource {
         return ResponseEntity.ok().body(listDTO);
     }
     
+    /**
+     * Retorna uma página de Clientes resumidos (ID, nome, e-mail, perfis e data de criação),
+     * usando paginação por cursor (keyset).
+     * <p>
+     * Cada página é montada por uma única consulta, sem carregar entidades nem expor CPF e
+     * senha. Para obter a próxima página, o cliente envia em {@code after} o valor de
+     * {@code nextCursor} da resposta anterior.
+     * </p>
+     * * @param after Cursor opaco da página anterior (opcional).
+     * @param limit Quantidade máxima de Clientes na página (padrão {@value #DEFAULT_PAGE_SIZE},
+     * limitada a {@value #MAX_PAGE_SIZE}).
+     * @return ResponseEntity contendo a página de PessoaResumoDTO e o próximo cursor (Status 200 OK).
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageDTO<PessoaResumoDTO>> findPage(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Busca um registro a mais para saber se existe uma próxima página
+        List<PessoaResumoDTO> list = service.findPage(CursorPageDTO.decodeCursor(after), pageSize + 1);
+        boolean hasNext = list.size() > pageSize;
+        List<PessoaResumoDTO> listDTO = hasNext ? list.subList(0, pageSize) : list;
+        String nextCursor = hasNext ? CursorPageDTO.encodeCursor(listDTO.get(pageSize - 1).getId()) : null;
+        return ResponseEntity.ok().body(new CursorPageDTO<>(listDTO, nextCursor, pageSize));
+    }
+    
     /**
      * Cria um novo Cliente no sistema.
      * * @param objDTO O ClienteDTO com os dados para criação.
@@ -69,14 +115,16 @@ public class ClienteResource {
     /**
      * Atualiza um Cliente existente pelo seu ID.
      * * @param id O ID do Cliente a ser atualizado.
+     * @param ifMatch O ETag da versão esperada (opcional); se diferente da atual, Status 412.
      * @param objDTO O ClienteDTO com os novos dados.
-     * @return ResponseEntity contendo o ClienteDTO atualizado (Status 200 OK).
+     * @return ResponseEntity contendo o ClienteDTO atualizado e o novo ETag (Status 200 OK).
      */
     @PutMapping(value = "/{id}")
-    public ResponseEntity<ClienteDTO> update(@PathVariable Integer id, 
+    public ResponseEntity<ClienteDTO> update(@PathVariable Integer id,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                             @Valid @RequestBody ClienteDTO objDTO) {
-        Cliente obj = service.update(id, objDTO);
-        return ResponseEntity.ok().body(new ClienteDTO(obj));
+        Cliente obj = service.update(id, objDTO, ETags.ifMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.etag(obj.getVersion())).body(new ClienteDTO(obj));
     }
     
     /**
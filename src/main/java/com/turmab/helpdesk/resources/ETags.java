@@ -0,0 +1,50 @@
+package com.turmab.helpdesk.resources;
+
+import com.turmab.helpdesk.service.exceptions.PreconditionFailedException;
+
+/**
+ * Conversão entre a versão ({@code @Version}) das entidades e os cabeçalhos
+ * {@code ETag}/{@code If-Match}.
+ * <p>
+ * O ETag é a própria versão entre aspas (por exemplo {@code "3"}). Como cada alteração
+ * incrementa a versão, ela identifica o conteúdo sem precisar calcular um hash do corpo.
+ * </p>
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Monta o ETag de uma versão.
+     * @param version A versão da entidade.
+     * @return O ETag entre aspas.
+     */
+    static String etag(Integer version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Extrai a versão esperada de um cabeçalho {@code If-Match}.
+     * @param ifMatch O valor do cabeçalho (pode ser nulo).
+     * @return A versão esperada, ou {@code null} se o cabeçalho não foi informado ou é {@code *}.
+     * @throws PreconditionFailedException Se o valor não corresponder a um ETag desta API.
+     */
+    static Integer ifMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().isEmpty() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        try {
+            return Integer.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match inválido: " + ifMatch);
+        }
+    }
+}
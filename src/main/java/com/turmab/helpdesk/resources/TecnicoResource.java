@@ -2,10 +2,14 @@ package com.turmab.helpdesk.resources;
 
 import com.turmab.helpdesk.domain.Tecnico;
 import com.turmab.helpdesk.domain.dto.TecnicoDTO;
+import com.turmab.helpdesk.domain.dto.CursorPageDTO;
+import com.turmab.helpdesk.domain.dto.PessoaResumoDTO;
 import com.turmab.helpdesk.service.TecnicoService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
@@ -25,6 +29,12 @@ import java.util.stream.Collectors;
 @RequestMapping(value = "/tecnicos")
 public class TecnicoResource {
     
+    /** Tamanho de página usado quando o parâmetro {@code limit} não é informado. */
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    /** Tamanho máximo de página aceito na paginação por cursor. */
+    private static final int MAX_PAGE_SIZE = 500;
+
     /** Serviço para acesso à lógica de negócio de Técnicos. */
     @Autowired
     private TecnicoService service;
@@ -32,19 +42,29 @@ public class TecnicoResource {
     /**
      * Retorna um Técnico específico pelo seu ID.
      * * @param id O ID do Técnico a ser buscado.
-     * @return ResponseEntity contendo o TecnicoDTO (Status 200 OK).
+     * @param request A requisição, usada para comparar o {@code If-None-Match}.
+     * @return ResponseEntity contendo o TecnicoDTO e o ETag da versão (Status 200 OK)
+     * ou Status 304 Not Modified se a versão for a mesma do {@code If-None-Match}.
      */
     @GetMapping(value = "/{id}")
-    public ResponseEntity<TecnicoDTO> findById(@PathVariable Integer id) {
+    public ResponseEntity<TecnicoDTO> findById(@PathVariable Integer id, WebRequest request) {
         Tecnico obj = service.findById(id);
-        return ResponseEntity.ok().body(new TecnicoDTO(obj));
+        String etag = ETags.etag(obj.getVersion());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(new TecnicoDTO(obj));
     }
     
     /**
      * Retorna uma lista com todos os Técnicos cadastrados.
+     * <p>
+     * Atende apenas requisições sem {@code limit}/{@code after}; as demais são atendidas
+     * por {@link #findPage(String, Integer)}.
+     * </p>
      * * @return ResponseEntity contendo uma lista de TecnicoDTO (Status 200 OK).
      */
-    @GetMapping
+    @GetMapping(params = { "!limit", "!after" })
     public ResponseEntity<List<TecnicoDTO>> findAll() {
         List<Tecnico> list = service.findAll();
         List<TecnicoDTO> listDTO = list.stream()
@@ -53,6 +73,32 @@ public class TecnicoResource {
         return ResponseEntity.ok().body(listDTO);
     }
     
+    /**
+     * Retorna uma página de Técnicos resumidos (ID, nome, e-mail, perfis e data de criação),
+     * usando paginação por cursor (keyset).
+     * <p>
+     * Cada página é montada por uma única consulta, sem carregar entidades nem expor CPF e
+     * senha. Para obter a próxima página, o cliente envia em {@code after} o valor de
+     * {@code nextCursor} da resposta anterior.
+     * </p>
+     * * @param after Cursor opaco da página anterior (opcional).
+     * @param limit Quantidade máxima de Técnicos na página (padrão {@value #DEFAULT_PAGE_SIZE},
+     * limitada a {@value #MAX_PAGE_SIZE}).
+     * @return ResponseEntity contendo a página de PessoaResumoDTO e o próximo cursor (Status 200 OK).
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageDTO<PessoaResumoDTO>> findPage(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Busca um registro a mais para saber se existe uma próxima página
+        List<PessoaResumoDTO> list = service.findPage(CursorPageDTO.decodeCursor(after), pageSize + 1);
+        boolean hasNext = list.size() > pageSize;
+        List<PessoaResumoDTO> listDTO = hasNext ? list.subList(0, pageSize) : list;
+        String nextCursor = hasNext ? CursorPageDTO.encodeCursor(listDTO.get(pageSize - 1).getId()) : null;
+        return ResponseEntity.ok().body(new CursorPageDTO<>(listDTO, nextCursor, pageSize));
+    }
+    
     /**
      * Cria um novo Técnico no sistema.
      * * @param objDTO O TecnicoDTO com os dados para criação.
@@ -69,14 +115,16 @@ public class TecnicoResource {
     /**
      * Atualiza um Técnico existente pelo seu ID.
      * * @param id O ID do Técnico a ser atualizado.
+     * @param ifMatch O ETag da versão esperada (opcional); se diferente da atual, Status 412.
      * @param objDTO O TecnicoDTO com os novos dados.
-     * @return ResponseEntity contendo o TecnicoDTO atualizado (Status 200 OK).
+     * @return ResponseEntity contendo o TecnicoDTO atualizado e o novo ETag (Status 200 OK).
      */
     @PutMapping(value = "/{id}")
-    public ResponseEntity<TecnicoDTO> update(@PathVariable Integer id, 
+    public ResponseEntity<TecnicoDTO> update(@PathVariable Integer id,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                             @Valid @RequestBody TecnicoDTO objDTO) {
-        Tecnico obj = service.update(id, objDTO);
-        return ResponseEntity.ok().body(new TecnicoDTO(obj));
+        Tecnico obj = service.update(id, objDTO, ETags.ifMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.etag(obj.getVersion())).body(new TecnicoDTO(obj));
     }
     
     /**
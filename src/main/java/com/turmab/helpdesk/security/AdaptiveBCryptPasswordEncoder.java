@@ -0,0 +1,123 @@
+package com.turmab.helpdesk.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} cujo custo é calibrado para o hardware em que a aplicação roda.
+ *
+ * <p>
+ * Cada incremento no custo do BCrypt dobra o tempo de verificação. Em vez de um valor fixo,
+ * {@link #calibrado(long, int)} mede o tempo de um hash no custo mínimo e sobe o custo
+ * enquanto o tempo medido continuar dentro do alvo configurado. Assim o tempo de login se
+ * mantém previsível ao trocar o tamanho da máquina.
+ * </p>
+ *
+ * <p>
+ * {@link #upgradeEncoding(String)} indica os hashes gerados com custo menor que o atual,
+ * permitindo ao {@link SenhaRehashService} regravar a senha. Hashes de custo maior são
+ * mantidos: regravá-los reduziria a proteção e, com custos diferentes entre nós, faria o
+ * hash alternar de custo a cada login.
+ * </p>
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveBCryptPasswordEncoder.class);
+
+    /** Maior custo aceito pelo BCrypt. */
+    private static final int MAX_STRENGTH = 31;
+
+    /** Senha usada apenas para medir o tempo de hash. */
+    private static final String SENHA_CALIBRACAO = "calibracao-bcrypt";
+
+    /** Custo usado para gerar novos hashes. */
+    private final int strength;
+
+    /**
+     * Cria o encoder com um custo fixo.
+     *
+     * @param strength custo do BCrypt (4 a 31)
+     */
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Cria o encoder com o maior custo cujo tempo de hash não ultrapassa o alvo.
+     *
+     * @param targetMs tempo alvo de uma verificação, em milissegundos
+     * @param minStrength custo mínimo, usado mesmo que ultrapasse o alvo
+     * @return encoder calibrado
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrado(long targetMs, int minStrength) {
+        int custo = minStrength;
+        long tempo = medir(custo);
+        // Cada incremento dobra o tempo: sobe enquanto o próximo custo ainda cabe no alvo
+        while (custo < MAX_STRENGTH && tempo * 2 <= targetMs) {
+            custo++;
+            tempo = medir(custo);
+        }
+        LOG.info("Custo do BCrypt calibrado em {} ({} ms por hash, alvo de {} ms); fixe-o em security.bcrypt.strength",
+                custo, tempo, targetMs);
+        return new AdaptiveBCryptPasswordEncoder(custo);
+    }
+
+    /**
+     * Mede o tempo de um hash no custo informado, descartando a primeira execução
+     * (aquecimento) e ficando com o menor de duas medições.
+     *
+     * @param custo custo do BCrypt
+     * @return tempo em milissegundos
+     */
+    private static long medir(int custo) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(custo);
+        encoder.encode(SENHA_CALIBRACAO);
+        long melhor = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long inicio = System.nanoTime();
+            encoder.encode(SENHA_CALIBRACAO);
+            melhor = Math.min(melhor, (System.nanoTime() - inicio) / 1_000_000);
+        }
+        return melhor;
+    }
+
+    /**
+     * Extrai o custo de um hash BCrypt (<code>$2a$10$...</code>).
+     *
+     * @param hash hash armazenado
+     * @return o custo ou {@code -1} se o valor não for um hash BCrypt
+     */
+    public static int custo(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Indica se o hash foi gerado com custo menor que o atual.
+     *
+     * @param encodedPassword hash armazenado
+     * @return {@code true} se a senha deve ser regravada com o custo atual
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int custo = custo(encodedPassword);
+        return custo > 0 && custo < strength;
+    }
+
+    /**
+     * Retorna o custo usado para gerar novos hashes.
+     *
+     * @return custo do BCrypt
+     */
+    public int getStrength() {
+        return strength;
+    }
+}
@@ -41,16 +41,27 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     /** Utilitário responsável por gerar e validar tokens JWT. */
     private final JWTUtil jwtUtil;
 
+    /** Pool limitado onde as senhas são verificadas, fora das threads do servidor. */
+    private final LoginExecutor loginExecutor;
+
+    /** Serviço que regrava senhas com custo de BCrypt menor que o atual. */
+    private final SenhaRehashService senhaRehashService;
+
     /**
      * Construtor que injeta as dependências principais.
      *
      * @param autheticationManager gerenciador de autenticação usado para validar credenciais
      * @param jwtUtil utilitário para geração de tokens JWT
+     * @param loginExecutor pool de verificação de senhas
+     * @param senhaRehashService serviço de regravação de senhas após o login
      */
-    public JWTAuthenticationFilter(AuthenticationManager autheticationManager, JWTUtil jwtUtil) {
+    public JWTAuthenticationFilter(AuthenticationManager autheticationManager, JWTUtil jwtUtil,
+                                   LoginExecutor loginExecutor, SenhaRehashService senhaRehashService) {
         super();
         this.authenticationManager = autheticationManager;
         this.jwtUtil = jwtUtil;
+        this.loginExecutor = loginExecutor;
+        this.senhaRehashService = senhaRehashService;
     }
 
     /**
@@ -62,7 +73,9 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      * <ol>
      *   <li>Lê o corpo da requisição (JSON) e converte para {@link CredenciaisDTO} usando {@link ObjectMapper}.</li>
      *   <li>Cria um {@link UsernamePasswordAuthenticationToken} com email, senha e lista vazia de authorities.</li>
-     *   <li>Chama o {@link AuthenticationManager} para autenticar o token.</li>
+     *   <li>Chama o {@link AuthenticationManager} para autenticar o token, no {@link LoginExecutor}.</li>
+     *   <li>Se o hash armazenado usar um custo de BCrypt menor que o atual, agenda a sua
+     *       regravação em segundo plano ({@link SenhaRehashService}).</li>
      *   <li>Retorna o objeto {@link Authentication} caso as credenciais sejam válidas.</li>
      * </ol>
      *
@@ -70,6 +83,7 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      * @param response resposta HTTP
      * @return objeto de autenticação caso bem-sucedido
      * @throws AuthenticationException se as credenciais forem inválidas
+     * @throws LoginSobrecarregadoException se o pool de login estiver sobrecarregado
      */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
@@ -82,9 +96,16 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(creds.getEmail(), creds.getSenha(), new ArrayList<>());
 
-            // Tenta autenticar usando o AuthenticationManager configurado no Spring Security
-            Authentication authentication = authenticationManager.authenticate(authenticationToken);
+            // Tenta autenticar usando o AuthenticationManager configurado no Spring Security,
+            // no pool de login para não ocupar as threads do servidor com o BCrypt
+            Authentication authentication = loginExecutor.authenticate(authenticationManager, authenticationToken);
+
+            // Atualiza o custo do hash da senha, se necessário, sem atrasar a resposta
+            senhaRehashService.agendarSeNecessario((UserSS) authentication.getPrincipal(), creds.getSenha());
             return authentication;
+        } catch (LoginSobrecarregadoException e) {
+            // Sobrecarga é tratada em unsuccessfulAuthentication (503 + Retry-After)
+            throw e;
         } catch (Exception e) {
             // Em caso de falha na leitura ou autenticação, lança uma RuntimeException
             throw new RuntimeException(e);
@@ -109,11 +130,11 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
                                             Authentication authResult) throws IOException, ServletException {
 
-        // Obtém o nome de usuário autenticado
-        String username = ((UserSS) authResult.getPrincipal()).getUsername();
+        // Obtém o usuário autenticado
+        UserSS user = (UserSS) authResult.getPrincipal();
 
-        // Gera o token JWT para este usuário
-        String token = jwtUtil.generateToken(username);
+        // Gera o token JWT para este usuário (com ID e perfis, se o modo de claims estiver ativo)
+        String token = jwtUtil.generateToken(user);
 
         // Expõe o cabeçalho Authorization para que o front-end consiga ler
         response.setHeader("access-control-expose-headers", "Authorization");
@@ -126,7 +147,9 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
      * Chamado quando a autenticação falha.
      *
      * <p>
-     * Retorna status 401 e um corpo JSON com informações do erro.
+     * Retorna status 401 e um corpo JSON com informações do erro. Se o login foi recusado por
+     * sobrecarga ({@link LoginSobrecarregadoException}), retorna 503 com o cabeçalho
+     * <code>Retry-After</code>.
      * </p>
      *
      * @param request  requisição HTTP
@@ -139,28 +162,41 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
                                               AuthenticationException failed) throws IOException, ServletException {
 
-        // Define código HTTP 401 (Não autorizado)
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
         // Define o tipo de conteúdo como JSON
         response.setContentType("application/json");
 
+        if (failed instanceof LoginSobrecarregadoException) {
+            // Define código HTTP 503 e informa quando o cliente pode tentar novamente
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(loginExecutor.getRetryAfterSeconds()));
+            response.getWriter().append(json(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "Serviço indisponível", failed.getMessage()));
+            return;
+        }
+
+        // Define código HTTP 401 (Não autorizado)
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+
         // Escreve o JSON de erro no corpo da resposta
-        response.getWriter().append(json());
+        response.getWriter().append(json(HttpServletResponse.SC_UNAUTHORIZED,
+                "Não autorizado", "Email ou senha inválidos"));
     }
 
     /**
-     * Monta o corpo JSON de erro para respostas de autenticação não autorizada.
+     * Monta o corpo JSON de erro para respostas de autenticação malsucedida.
      *
+     * @param status código HTTP da resposta
+     * @param error descrição do status
+     * @param message mensagem de erro
      * @return sequência de caracteres contendo o JSON com informações do erro
      */
-    private CharSequence json() {
+    private CharSequence json(int status, String error, String message) {
         long date = new Date().getTime();
         return "{"
                 + "\"timestamp\": " + date + ", "
-                + "\"status\": 401, "
-                + "\"error\": \"Não autorizado\", "
-                + "\"message\": \"Email ou senha inválidos\", "
+                + "\"status\": " + status + ", "
+                + "\"error\": \"" + error + "\", "
+                + "\"message\": \"" + message + "\", "
                 + "\"path\": \"/login\""
                 + "}";
     }
@@ -11,9 +11,10 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
+import io.jsonwebtoken.Claims;
+
 /**
  * Filtro responsável por autorizar requisições com base em um token JWT.
  *
@@ -30,22 +31,22 @@ public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
     /** Utilitário para validar e extrair informações do token JWT. */
     private final JWTUtil jwtUtil;
 
-    /** Serviço que carrega os detalhes de um usuário (nome, senha, perfis). */
-    private final UserDetailsService userDetailsService;
+    /** Cache que fornece os detalhes de um usuário (nome, senha, perfis). */
+    private final UserSSCache userCache;
 
     /**
      * Construtor que injeta as dependências necessárias.
      *
      * @param authenticationManager Gerenciador de autenticação do Spring Security.
      * @param jwtUtil Utilitário para manipulação de tokens JWT.
-     * @param userDetailsService Serviço para buscar informações do usuário no banco/detalhes.
+     * @param userCache Cache dos usuários, que consulta o banco apenas em caso de falha.
      */
     public JWTAuthorizationFilter(AuthenticationManager authenticationManager,
                                   JWTUtil jwtUtil,
-                                  UserDetailsService userDetailsService) {
+                                  UserSSCache userCache) {
         super(authenticationManager);
         this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+        this.userCache = userCache;
     }
 
     /**
@@ -97,10 +98,15 @@ public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
      *
      * <p>Processo:
      * <ul>
-     *   <li>Valida se o token é legítimo e não expirou usando {@link JWTUtil}.</li>
+     *   <li>Valida se o token é legítimo e não expirou usando {@link JWTUtil}, com um
+     *       único parsing cujas claims são reaproveitadas nos passos seguintes.</li>
      *   <li>Extrai o nome de usuário (subject) do token.</li>
-     *   <li>Busca os detalhes do usuário (perfis/roles) via {@link UserDetailsService}.</li>
-     *   <li>Retorna um {@link UsernamePasswordAuthenticationToken} com as autoridades
+     *   <li>Se o token carrega o ID e os perfis (modo de claims autossuficientes),
+     *       monta o usuário diretamente a partir do token, sem acessar o banco.</li>
+     *   <li>Caso contrário, busca os detalhes do usuário (perfis/roles) via {@link UserSSCache},
+     *       que só consulta o banco quando o usuário não está em cache.</li>
+     *   <li>Retorna um {@link UsernamePasswordAuthenticationToken} com o próprio {@link UserSS}
+     *       como principal (para que os serviços obtenham o ID do usuário) e as autoridades
      *       do usuário, permitindo ao Spring identificar permissões em endpoints.</li>
      * </ul>
      * </p>
@@ -110,17 +116,20 @@ public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
      */
     private UsernamePasswordAuthenticationToken getAuthentication(String token) {
 
-        // Verifica se o token é válido (assinatura e data de expiração)
-        if (jwtUtil.tokenValido(token)) {
-            // Obtém o nome de usuário (subject) do token
-            String username = jwtUtil.getUsername(token);
+        // Valida o token (assinatura e data de expiração) e obtém suas claims
+        Claims claims = jwtUtil.parse(token);
+        if (claims != null) {
+            // Tenta montar o usuário apenas com as claims do token
+            UserDetails details = jwtUtil.getUserFromClaims(claims);
 
-            // Carrega as informações completas do usuário, inclusive authorities
-            UserDetails details = userDetailsService.loadUserByUsername(username);
+            if (details == null) {
+                // Carrega as informações completas do usuário (subject), inclusive authorities
+                details = userCache.get(claims.getSubject());
+            }
 
-            // Cria o objeto de autenticação com usuário e autoridades
+            // Cria o objeto de autenticação com o usuário (UserSS) e suas autoridades
             return new UsernamePasswordAuthenticationToken(
-                    details.getUsername(), null, details.getAuthorities());
+                    details, null, details.getAuthorities());
         }
 
         // Retorna null se o token não for válido
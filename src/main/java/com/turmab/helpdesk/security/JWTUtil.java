@@ -1,11 +1,31 @@
 package com.turmab.helpdesk.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.turmab.helpdesk.domain.enums.Perfil;
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
@@ -43,6 +63,92 @@ public class JWTUtil {
     @Value("${jwt.secret}")
     private String secret;
 
+    /**
+     * Habilita o modo de claims autossuficientes.
+     * <p>
+     * Quando ativo (propriedade <code>jwt.claims.enabled</code>), o token passa a carregar o ID
+     * do usuário e os códigos dos seus {@link Perfil}, e o filtro de autorização monta a
+     * autenticação apenas a partir do token verificado, sem acessar o banco.
+     * </p>
+     */
+    @Value("${jwt.claims.enabled:false}")
+    private boolean claimsEnabled;
+
+    /**
+     * Idade máxima, em milissegundos, para confiar nos perfis contidos no token.
+     * <p>
+     * Limita por quanto tempo uma alteração de perfis pode deixar de ser percebida.
+     * Tokens mais antigos continuam válidos até a expiração, mas os perfis voltam a ser
+     * carregados do banco. Valor lido da propriedade <code>jwt.claims.max-age</code>.
+     * </p>
+     */
+    @Value("${jwt.claims.max-age:900000}")
+    private Long claimsMaxAge;
+
+    /**
+     * Quantidade máxima de tokens verificados mantidos em cache.
+     * <p>
+     * Valor lido da propriedade <code>jwt.token-cache.max-size</code>.
+     * </p>
+     */
+    @Value("${jwt.token-cache.max-size:10000}")
+    private long tokenCacheMaxSize;
+
+    /** Chave de assinatura HS512, criada uma única vez a partir de <code>jwt.secret</code>. */
+    private Key signingKey;
+
+    /** Parser já configurado com a chave de assinatura, reutilizado em todas as requisições. */
+    private JwtParser parser;
+
+    /**
+     * Claims dos tokens já verificados, indexadas pelo hash SHA-256 do token.
+     * <p>
+     * Cada entrada expira junto com o próprio token, de modo que requisições repetidas
+     * do mesmo cliente não refazem o parsing nem a verificação da assinatura.
+     * </p>
+     */
+    private Cache<String, Claims> tokenCache;
+
+    /** Nome da claim com o ID do usuário. */
+    private static final String CLAIM_ID = "id";
+
+    /** Nome da claim com os códigos dos perfis do usuário. */
+    private static final String CLAIM_PERFIS = "perfis";
+
+    /**
+     * Prepara a chave, o parser e o cache de tokens verificados.
+     *
+     * <p>
+     * Executado uma vez após a injeção das propriedades, evitando recriar a chave e o
+     * parser a cada token gerado ou validado.
+     * </p>
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = new SecretKeySpec(secret.getBytes(), SignatureAlgorithm.HS512.getJcaName());
+        parser = Jwts.parser().setSigningKey(signingKey);
+        tokenCache = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long restante = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, restante));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     /**
      * Gera um token JWT para o e-mail (username) informado.
      *
@@ -59,19 +165,53 @@ public class JWTUtil {
      * @return token JWT assinado
      */
     public String generateToken(String email) {
+        return builder(email).compact();
+    }
+
+    /**
+     * Gera um token JWT para o usuário autenticado.
+     *
+     * <p>
+     * Se o modo de claims autossuficientes estiver habilitado, o token também conterá o ID
+     * do usuário e os códigos dos seus perfis; caso contrário, equivale a
+     * {@link #generateToken(String)}.
+     * </p>
+     *
+     * @param user usuário autenticado
+     * @return token JWT assinado
+     */
+    public String generateToken(UserSS user) {
+        JwtBuilder builder = builder(user.getUsername());
+        if (claimsEnabled) {
+            builder.claim(CLAIM_ID, user.getId())
+                   .claim(CLAIM_PERFIS, user.getPerfis().stream()
+                                            .map(Perfil::getCodigo)
+                                            .collect(Collectors.toList()));
+        }
+        return builder.compact();
+    }
+
+    /**
+     * Monta o builder comum a todos os tokens.
+     *
+     * @param email e-mail do usuário (subject do token)
+     * @return builder com subject, datas e assinatura configurados
+     */
+    private JwtBuilder builder(String email) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                    // Define o "subject" (identificação do usuário) como o e-mail
                    .setSubject(email)
+                   // Data de emissão, usada para limitar a idade das claims de perfis
+                   .setIssuedAt(new Date(now))
                    // Define a data de expiração (agora + tempo configurado)
-                   .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                   .setExpiration(new Date(now + expiration))
                    // Assina o token usando algoritmo HS512 e a chave secreta
-                   .signWith(SignatureAlgorithm.HS512, secret.getBytes())
-                   // Compacta e retorna o token em formato String
-                   .compact();
+                   .signWith(SignatureAlgorithm.HS512, signingKey);
     }
 
     /**
-     * Verifica se um token é válido.
+     * Faz o parsing e a validação do token uma única vez.
      *
      * <p>
      * Regras de validação:
@@ -80,33 +220,45 @@ public class JWTUtil {
      *   <li>Token não pode estar expirado.</li>
      *   <li>Assinatura deve ser válida.</li>
      * </ul>
+     * As claims de um token válido ficam em cache até a sua expiração; nas chamadas
+     * seguintes com o mesmo token apenas a data de expiração é conferida novamente.
+     * Valores que nem sequer têm o formato <code>header.payload.assinatura</code> são
+     * descartados antes do parser, sem lançar exceções.
      * </p>
      *
+     * @param token token JWT
+     * @return as {@link Claims} do token ou {@code null} se o token for inválido
+     */
+    public Claims parse(String token) {
+        if (!formatoCompacto(token)) {
+            return null;
+        }
+        String chave = hash(token);
+        Claims claims = tokenCache.getIfPresent(chave);
+        if (claims == null) {
+            claims = getClaims(token);
+            if (claims == null || claims.getSubject() == null || claims.getExpiration() == null) {
+                return null;
+            }
+            tokenCache.put(chave, claims);
+        }
+        // A entrada pode sobreviver alguns instantes além da expiração até ser removida
+        return System.currentTimeMillis() < claims.getExpiration().getTime() ? claims : null;
+    }
+
+    /**
+     * Verifica se um token é válido.
+     *
      * @param token token JWT a ser validado
      * @return {@code true} se o token for válido, caso contrário {@code false}
+     * @see #parse(String)
      */
     public boolean tokenValido(String token) {
-        // Obtém as claims (informações) contidas no token
-        Claims claims = getClaims(token);
-        if (claims != null) {
-            // Subject (nome de usuário) do token
-            String username = claims.getSubject();
-            // Data de expiração
-            Date expirationDate = claims.getExpiration();
-            // Data/hora atual
-            Date now = new Date(System.currentTimeMillis());
-
-            // Token é válido se possuir subject, data de expiração
-            // e a data atual for anterior à expiração
-            if (username != null && expirationDate != null && now.before(expirationDate)) {
-                return true;
-            }
-        }
-        return false;
+        return parse(token) != null;
     }
 
     /**
-     * Obtém as {@link Claims} (informações) do token.
+     * Obtém as {@link Claims} (informações) do token, verificando a assinatura.
      *
      * <p>
      * As claims incluem dados como subject, data de emissão, data de expiração e quaisquer
@@ -118,17 +270,48 @@ public class JWTUtil {
      */
     private Claims getClaims(String token) {
         try {
-            // Faz o parsing do token usando a chave secreta para validar a assinatura
-            return Jwts.parser()
-                       .setSigningKey(secret.getBytes())
-                       .parseClaimsJws(token)
-                       .getBody();
-        } catch (Exception e) {
+            // Faz o parsing do token com o parser pré-configurado, validando a assinatura
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
             // Em caso de erro (token inválido, assinatura incorreta, expirado etc.) retorna null
             return null;
         }
     }
 
+    /**
+     * Verifica se o token tem o formato compacto de um JWS: três partes separadas por ponto.
+     *
+     * @param token token recebido
+     * @return {@code true} se o token tiver exatamente dois pontos
+     */
+    private static boolean formatoCompacto(String token) {
+        if (token == null || token.isEmpty()) {
+            return false;
+        }
+        int primeiro = token.indexOf('.');
+        if (primeiro <= 0) {
+            return false;
+        }
+        int segundo = token.indexOf('.', primeiro + 1);
+        return segundo > primeiro + 1 && segundo < token.length() - 1
+                && token.indexOf('.', segundo + 1) < 0;
+    }
+
+    /**
+     * Calcula a chave do cache de tokens, evitando manter o token completo em memória.
+     *
+     * @param token token JWT
+     * @return hash SHA-256 do token em Base64
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
     /**
      * Obtém o nome de usuário (subject) a partir do token.
      *
@@ -140,10 +323,46 @@ public class JWTUtil {
      * @return e-mail/username contido no subject ou {@code null} se não for possível extrair
      */
     public String getUsername(String token) {
-        Claims claims = getClaims(token);
+        Claims claims = parse(token);
         if (claims != null) {
             return claims.getSubject();
         }
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Monta o usuário apenas a partir das claims do token, sem acessar o banco.
+     *
+     * <p>
+     * Retorna {@code null} quando o modo de claims autossuficientes está desabilitado,
+     * quando o token não contém o ID e os perfis, ou quando foi emitido há mais tempo que
+     * <code>jwt.claims.max-age</code>. Nesses casos o chamador deve carregar o usuário
+     * do banco.
+     * </p>
+     *
+     * @param claims claims de um token já validado por {@link #parse(String)}
+     * @return usuário sem senha, com os perfis do token, ou {@code null}
+     */
+    public UserSS getUserFromClaims(Claims claims) {
+        if (!claimsEnabled) {
+            return null;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        Integer id = claims.get(CLAIM_ID, Integer.class);
+        List<?> codigos = claims.get(CLAIM_PERFIS, List.class);
+        if (issuedAt == null || id == null || codigos == null
+                || issuedAt.getTime() + claimsMaxAge < System.currentTimeMillis()) {
+            return null;
+        }
+        int mascara = 0;
+        try {
+            for (Object codigo : codigos) {
+                mascara |= Perfil.toEnum(((Number) codigo).intValue()).getMascara();
+            }
+        } catch (BadRequestException e) {
+            // Perfil desconhecido por esta versão: usa o caminho com acesso ao banco
+            return null;
+        }
+        return new UserSS(id, claims.getSubject(), null, Perfil.fromMascara(mascara));
+    }
+}
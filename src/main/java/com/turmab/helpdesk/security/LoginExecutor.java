@@ -0,0 +1,175 @@
+package com.turmab.helpdesk.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Pool dedicado à verificação de senhas do <code>/login</code>.
+ *
+ * <p>
+ * A comparação BCrypt é proposital e caramente lenta. Executada diretamente nas threads do
+ * Tomcat, uma onda de logins (troca de turno, todos os técnicos entrando ao mesmo tempo)
+ * ocupa a CPU e as threads da aplicação e atrasa as demais requisições. Aqui a verificação
+ * roda em um pool com uma thread por processador (propriedade
+ * <code>login.executor.threads</code>) e fila limitada (<code>login.executor.queue-capacity</code>).
+ * Quando a fila está cheia, ou a verificação não termina em
+ * <code>login.executor.timeout-ms</code>, o login é recusado imediatamente com
+ * {@link LoginSobrecarregadoException}.
+ * </p>
+ *
+ * <p>
+ * Métricas expostas: <code>login.executor.queue</code> (tamanho da fila),
+ * <code>login.executor.wait</code> (tempo na fila), <code>login.executor.verification</code>
+ * (tempo de verificação) e <code>login.executor.rejected</code> (logins recusados).
+ * </p>
+ */
+@Component
+public class LoginExecutor {
+
+    /** Registro de métricas da aplicação. */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** Quantidade de threads do pool; zero usa a quantidade de processadores. */
+    @Value("${login.executor.threads:0}")
+    private int threads;
+
+    /** Quantidade máxima de logins aguardando na fila. */
+    @Value("${login.executor.queue-capacity:50}")
+    private int queueCapacity;
+
+    /** Tempo máximo, em milissegundos, que a requisição aguarda a verificação. */
+    @Value("${login.executor.timeout-ms:5000}")
+    private long timeoutMs;
+
+    /** Valor do cabeçalho <code>Retry-After</code>, em segundos, nas recusas. */
+    @Value("${login.executor.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    /** Pool de verificação. */
+    private ThreadPoolExecutor executor;
+
+    /** Tempo que cada login aguardou na fila. */
+    private Timer espera;
+
+    /** Tempo de verificação das credenciais. */
+    private Timer verificacao;
+
+    /** Logins recusados por fila cheia ou tempo esgotado. */
+    private Counter recusados;
+
+    /**
+     * Cria o pool e registra as métricas.
+     */
+    @PostConstruct
+    public void init() {
+        int n = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Runnable> fila = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger contador = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "login-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        executor = new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS, fila, threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("login.executor.queue", fila, BlockingQueue::size)
+             .description("Logins aguardando verificação")
+             .register(meterRegistry);
+        espera = Timer.builder("login.executor.wait")
+                      .description("Tempo de espera na fila de login")
+                      .register(meterRegistry);
+        verificacao = Timer.builder("login.executor.verification")
+                           .description("Tempo de verificação das credenciais")
+                           .register(meterRegistry);
+        recusados = meterRegistry.counter("login.executor.rejected");
+    }
+
+    /**
+     * Encerra o pool junto com a aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Autentica as credenciais no pool de login, aguardando o resultado.
+     *
+     * @param authenticationManager gerenciador de autenticação
+     * @param authentication credenciais a verificar
+     * @return autenticação bem-sucedida
+     * @throws LoginSobrecarregadoException se a fila estiver cheia ou o tempo limite se esgotar
+     * @throws AuthenticationException se as credenciais forem inválidas
+     */
+    public Authentication authenticate(AuthenticationManager authenticationManager, Authentication authentication) {
+        long enfileirado = System.nanoTime();
+        Future<Authentication> future;
+        try {
+            future = executor.submit(() -> {
+                espera.record(System.nanoTime() - enfileirado, TimeUnit.NANOSECONDS);
+                Timer.Sample sample = Timer.start(meterRegistry);
+                try {
+                    return authenticationManager.authenticate(authentication);
+                } finally {
+                    sample.stop(verificacao);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            recusados.increment();
+            throw new LoginSobrecarregadoException("Muitos logins simultâneos, tente novamente em instantes");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            recusados.increment();
+            throw new LoginSobrecarregadoException("Tempo de verificação do login esgotado, tente novamente em instantes");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Login interrompido", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            throw new AuthenticationServiceException(causa.getMessage(), causa);
+        }
+    }
+
+    /**
+     * Retorna o intervalo sugerido ao cliente antes de tentar novamente.
+     *
+     * @return segundos para o cabeçalho <code>Retry-After</code>
+     */
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
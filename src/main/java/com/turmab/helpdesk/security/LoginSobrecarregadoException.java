@@ -0,0 +1,25 @@
+package com.turmab.helpdesk.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Exceção lançada quando o login é recusado por sobrecarga do {@link LoginExecutor}.
+ *
+ * <p>
+ * Indica que a fila de verificação de senhas está cheia ou que a verificação não terminou
+ * dentro do tempo limite. O {@link JWTAuthenticationFilter} a converte em uma resposta
+ * 503 com o cabeçalho <code>Retry-After</code>, em vez de 401.
+ * </p>
+ */
+public class LoginSobrecarregadoException extends AuthenticationServiceException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construtor com mensagem.
+     *
+     * @param msg mensagem de erro
+     */
+    public LoginSobrecarregadoException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,137 @@
+package com.turmab.helpdesk.security;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.turmab.helpdesk.repositories.PessoaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Regrava em segundo plano as senhas armazenadas com custo de BCrypt menor que o atual.
+ *
+ * <p>
+ * Quando o custo configurado sobe (por exemplo, em uma máquina mais rápida), os hashes
+ * antigos continuam válidos, mas mais fracos que o desejado. Após um
+ * login bem-sucedido, {@link #agendarSeNecessario(UserSS, String)} verifica o custo do hash
+ * e, se necessário, agenda um novo hash da senha informada em uma thread própria, sem
+ * atrasar a resposta do login.
+ * </p>
+ *
+ * <p>
+ * A fila é limitada (propriedade <code>security.bcrypt.rehash-queue-capacity</code>);
+ * quando cheia, o pedido é descartado e será repetido no próximo login do usuário.
+ * A gravação só acontece se o hash no banco ainda for o mesmo lido no login, para não
+ * sobrescrever uma troca de senha concorrente.
+ * </p>
+ */
+@Component
+public class SenhaRehashService {
+
+    /** Encoder com o custo atual. */
+    @Autowired
+    private BCryptPasswordEncoder encoder;
+
+    /** Repositório usado para gravar o novo hash. */
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    /** Cache dos usuários, invalidado após a troca do hash. */
+    @Autowired
+    private UserSSCache userCache;
+
+    /** Registro de métricas da aplicação. */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** Quantidade máxima de senhas aguardando novo hash. */
+    @Value("${security.bcrypt.rehash-queue-capacity:100}")
+    private int queueCapacity;
+
+    /** Thread única que calcula e grava os novos hashes. */
+    private ThreadPoolExecutor executor;
+
+    /** IDs com novo hash já agendado, para não repetir o trabalho em logins seguidos. */
+    private final Set<Integer> pendentes = ConcurrentHashMap.newKeySet();
+
+    /** Senhas regravadas com o custo atual. */
+    private Counter regravadas;
+
+    /**
+     * Cria a thread de regravação e registra as métricas.
+     */
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "senha-rehash");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        regravadas = meterRegistry.counter("login.rehash");
+    }
+
+    /**
+     * Encerra a thread junto com a aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Agenda o novo hash da senha se o hash armazenado usar custo menor que o atual.
+     *
+     * @param user usuário recém-autenticado, com o hash lido do banco
+     * @param senha senha em texto puro informada no login
+     */
+    public void agendarSeNecessario(UserSS user, String senha) {
+        String hashAntigo = user.getPassword();
+        if (senha == null || hashAntigo == null || !encoder.upgradeEncoding(hashAntigo)
+                || !pendentes.add(user.getId())) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    regravar(user, senha, hashAntigo);
+                } finally {
+                    pendentes.remove(user.getId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Fila cheia: o próximo login do usuário tentará novamente
+            pendentes.remove(user.getId());
+        }
+    }
+
+    /**
+     * Calcula o novo hash e o grava se a senha não tiver sido trocada nesse meio tempo.
+     *
+     * @param user usuário autenticado
+     * @param senha senha em texto puro
+     * @param hashAntigo hash lido no login
+     */
+    private void regravar(UserSS user, String senha, String hashAntigo) {
+        String hashNovo = encoder.encode(senha);
+        if (pessoaRepository.updateSenha(user.getId(), hashAntigo, hashNovo) > 0) {
+            userCache.invalidate(user.getUsername());
+            regravadas.increment();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.turmab.helpdesk.security;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,6 +35,12 @@ public class UserSS implements UserDetails {
     /** Serial para controle de versão da classe em operações de serialização. */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Authorities de cada combinação de perfis (índice = máscara de {@link Perfil#toMascara(Set)}),
+     * criadas uma única vez e compartilhadas entre os usuários.
+     */
+    private static final Collection<? extends GrantedAuthority>[] AUTHORITIES = criaAuthorities();
+
     /** Identificador único do usuário no banco de dados. */
     private final Integer id;
 
@@ -42,6 +50,9 @@ public class UserSS implements UserDetails {
     /** Senha criptografada do usuário. */
     private final String senha;
 
+    /** Perfis do usuário, usados para gerar as claims do token. */
+    private final Set<Perfil> perfis;
+
     /**
      * Coleção de autoridades (roles) do usuário.
      * <p>
@@ -64,10 +75,26 @@ public class UserSS implements UserDetails {
         this.id = id;
         this.email = email;
         this.senha = senha;
-        // Converte cada Perfil em SimpleGrantedAuthority usando a descrição do enum
-        this.authorities = perfis.stream()
-                                 .map(x -> new SimpleGrantedAuthority(x.getDescricao()))
-                                 .collect(Collectors.toSet());
+        this.perfis = perfis;
+        // Cada Perfil vira uma SimpleGrantedAuthority com a descrição do enum (conjunto pré-calculado)
+        this.authorities = AUTHORITIES[Perfil.toMascara(perfis)];
+    }
+
+    /**
+     * Cria as authorities de todas as combinações de perfis.
+     *
+     * @return authorities indexadas pela máscara dos perfis
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<? extends GrantedAuthority>[] criaAuthorities() {
+        int maior = Perfil.toMascara(EnumSet.allOf(Perfil.class));
+        Collection<? extends GrantedAuthority>[] authorities = new Collection[maior + 1];
+        for (int mascara = 0; mascara <= maior; mascara++) {
+            authorities[mascara] = Collections.unmodifiableSet(Perfil.fromMascara(mascara).stream()
+                    .map(x -> new SimpleGrantedAuthority(x.getDescricao()))
+                    .collect(Collectors.toSet()));
+        }
+        return authorities;
     }
 
     /**
@@ -79,6 +106,15 @@ public class UserSS implements UserDetails {
         return id;
     }
 
+    /**
+     * Retorna os perfis do usuário.
+     *
+     * @return conjunto de {@link Perfil}
+     */
+    public Set<Perfil> getPerfis() {
+        return perfis;
+    }
+
     /**
      * Retorna as autoridades (roles) concedidas ao usuário.
      * <p>Necessário para verificação de permissões pelo Spring Security.</p>
@@ -0,0 +1,114 @@
+package com.turmab.helpdesk.security;
+
+import java.time.Duration;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache dos usuários autenticados ({@link UserSS}) usado pelo {@link JWTAuthorizationFilter}.
+ *
+ * <p>
+ * Sem o cache, cada requisição autenticada executa a busca da {@code Pessoa} pelo e-mail
+ * e a consulta dos seus perfis antes mesmo de chegar ao controlador. Aqui o resultado de
+ * {@link UserDetailsService#loadUserByUsername(String)} é guardado por um tempo curto
+ * (propriedade <code>security.user-cache.ttl-seconds</code>) e com tamanho máximo
+ * (propriedade <code>security.user-cache.max-size</code>), descartando as entradas
+ * menos usadas quando o limite é atingido.
+ * </p>
+ *
+ * <p>
+ * Os serviços de {@code Tecnico} e {@code Cliente} invalidam a entrada da pessoa sempre que
+ * ela é alterada ou excluída. Acertos e falhas são expostos nas métricas
+ * <code>cache.gets</code> com a tag <code>cache=usuarios</code>.
+ * </p>
+ *
+ * <p>
+ * O login não usa este cache: a verificação de senha sempre consulta o banco.
+ * </p>
+ */
+@Component
+public class UserSSCache {
+
+    /** Serviço que carrega os usuários do banco em caso de falha no cache. */
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    /** Registro de métricas da aplicação. */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** Tempo de vida de cada entrada, em segundos. */
+    @Value("${security.user-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /** Quantidade máxima de usuários mantidos no cache. */
+    @Value("${security.user-cache.max-size:10000}")
+    private long maxSize;
+
+    /** Cache de usuários indexado pelo e-mail. */
+    private Cache<String, UserDetails> cache;
+
+    /**
+     * Cria o cache com as configurações lidas e registra suas métricas.
+     */
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "usuarios");
+    }
+
+    /**
+     * Obtém o usuário pelo e-mail, consultando o banco apenas quando não estiver em cache.
+     *
+     * @param email e-mail do usuário
+     * @return os detalhes do usuário
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException se o usuário não existir
+     */
+    public UserDetails get(String email) {
+        return cache.get(email, userDetailsService::loadUserByUsername);
+    }
+
+    /**
+     * Remove o usuário do cache.
+     *
+     * <p>
+     * A remoção é feita imediatamente e repetida após o commit da transação corrente,
+     * se houver, para que uma requisição concorrente não guarde novamente os dados antigos
+     * antes de a alteração ser confirmada.
+     * </p>
+     *
+     * @param email e-mail do usuário (ignorado se {@code null})
+     */
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+}
@@ -1,18 +1,64 @@
 package com.turmab.helpdesk.service;
 
 import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.ChamadoExcluido;
+import com.turmab.helpdesk.domain.ChamadoHistorico;
 import com.turmab.helpdesk.domain.Cliente;
 import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.ChamadoBulkResultadoDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoChangesDTO;
 import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoFiltroDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoLoteItemDTO;
+import com.turmab.helpdesk.domain.dto.ChamadoPatchDTO;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoExcluidoRepository;
 import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.ContadorAlteracaoRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+import com.turmab.helpdesk.service.exceptions.BadRequestException;
 import com.turmab.helpdesk.service.exceptions.DataIntegrityViolationException;
 import com.turmab.helpdesk.service.exceptions.ObjectNotFoundException;
+import com.turmab.helpdesk.service.eventos.ChamadoEvento;
+import com.turmab.helpdesk.service.exceptions.PreconditionFailedException;
+import com.turmab.helpdesk.service.atribuicao.AtribuicaoService;
+import com.turmab.helpdesk.service.historico.ChamadoEstado;
+import com.turmab.helpdesk.service.historico.ChamadoHistoricoEvento;
+import com.turmab.helpdesk.security.UserSS;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceException;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Serviço responsável pela lógica de negócio da entidade Chamado.
@@ -29,6 +75,14 @@ public class ChamadoService {
     @Autowired
     private ChamadoRepository repository;
     
+    /** Repositório dos registros de exclusão, usados pela sincronização incremental. */
+    @Autowired
+    private ChamadoExcluidoRepository excluidoRepository;
+    
+    /** Contador de alterações, cujo valor confirmado limita a sincronização incremental. */
+    @Autowired
+    private ContadorAlteracaoRepository contadorRepository;
+    
     /** Serviço para buscar dados da entidade Tecnico. */
     @Autowired
     private TecnicoService tecnicoService;
@@ -36,6 +90,45 @@ public class ChamadoService {
     /** Serviço para buscar dados da entidade Cliente. */
     @Autowired
     private ClienteService clienteService;
+
+    /** Repositório de Técnicos, usado na criação em lote. */
+    @Autowired
+    private TecnicoRepository tecnicoRepository;
+
+    /** Repositório de Clientes, usado na criação em lote. */
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    /** Atribuição automática de técnicos, mantida a par das cargas de trabalho. */
+    @Autowired
+    private AtribuicaoService atribuicaoService;
+
+    /** Validador usado para validar cada item da criação em lote e da atribuição automática. */
+    @Autowired
+    private Validator validator;
+
+    /**
+     * Publica os eventos de alteração, entregues ao feed SSE e ao histórico
+     * ({@link com.turmab.helpdesk.service.historico.ChamadoHistoricoWriter}) depois do commit.
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /** Transações de cada parte da criação em lote. */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /** Contexto de persistência, usado na criação em lote. */
+    @PersistenceContext
+    private EntityManager em;
+
+    /** Quantidade de Chamados inseridos em cada transação da criação em lote. */
+    @Value("${helpdesk.chamado.batch.flush-size:500}")
+    private int batchFlushSize;
+
+    /** Quantidade máxima de Chamados aceitos em um único lote. */
+    @Value("${helpdesk.chamado.batch.max-items:5000}")
+    private int batchMaxItems;
     
     /**
      * Busca um Chamado pelo seu ID.
@@ -43,6 +136,7 @@ public class ChamadoService {
      * @return O objeto Chamado encontrado.
      * @throws ObjectNotFoundException Se o ID do chamado não for encontrado na base de dados.
      */
+    @Transactional(readOnly = true)
     public Chamado findById(Integer id) {
         Optional<Chamado> obj = repository.findById(id);
         return obj.orElseThrow(() -> new ObjectNotFoundException(
@@ -50,11 +144,123 @@ public class ChamadoService {
     }
     
     /**
-     * Retorna uma lista com todos os Chamados cadastrados.
-     * * @return Uma lista de objetos Chamado.
+     * Busca um Chamado pelo seu ID, já projetado em DTO.
+     * * @param id O ID do Chamado que se deseja buscar.
+     * @return O ChamadoDTO com os nomes do técnico e do cliente.
+     * @throws ObjectNotFoundException Se o ID do chamado não for encontrado na base de dados.
+     */
+    @Transactional(readOnly = true)
+    public ChamadoDTO findDTOById(Integer id) {
+        return repository.findDTOById(id).orElseThrow(() -> new ObjectNotFoundException(
+            "Chamado não encontrado! Id: " + id + ", Tipo: " + Chamado.class.getName()));
+    }
+    
+    /**
+     * Retorna uma lista com todos os Chamados cadastrados, já projetados em DTO
+     * por uma única consulta.
+     * * @return Uma lista de ChamadoDTO.
+     */
+    @Transactional(readOnly = true)
+    public List<ChamadoDTO> findAll() {
+        return repository.findAllDTO();
+    }
+
+    /**
+     * Retorna uma página de Chamados que atendem ao filtro, usando paginação por cursor (keyset).
+     * * @param filtro Os critérios de filtro (campos nulos são ignorados).
+     * @param after O último ID da página anterior ou {@code null} para a primeira página.
+     * @param limit A quantidade máxima de Chamados a retornar.
+     * @return Uma lista com até {@code limit} Chamados com ID maior que {@code after}.
+     */
+    @Transactional(readOnly = true)
+    public List<ChamadoDTO> findPage(ChamadoFiltroDTO filtro, Integer after, int limit) {
+        return repository.findDTOPage(filtro, after, limit);
+    }
+    
+    /**
+     * Retorna as alterações de Chamados posteriores ao token da última sincronização.
+     * <p>
+     * Alterados e excluídos são lidos por duas consultas de intervalo sobre os índices de
+     * sequência de alteração, a partir da posição (sequência, ID) do token, e intercalados
+     * nessa mesma ordem; os dados dos alterados são lidos depois, em uma única consulta.
+     * Apenas sequências até o valor confirmado do contador de alterações são consideradas:
+     * como os commits seguem a ordem das sequências
+     * ({@link com.turmab.helpdesk.service.eventos.ChamadoSequenciaService}), nenhuma
+     * transação ainda aberta grava uma sequência já entregue, por mais lenta que seja.
+     * </p>
+     * * @param since O token da última sincronização ou {@code null} para todas as alterações.
+     * @param limit A quantidade máxima de alterações (alterados mais excluídos) a retornar.
+     * @return As alterações e o token da próxima sincronização.
+     * @throws BadRequestException Se o token for inválido.
+     */
+    @Transactional(readOnly = true)
+    public ChamadoChangesDTO findChanges(String since, int limit) {
+        long desde = ChamadoChangesDTO.decodeSequencia(since);
+        Integer desdeId = ChamadoChangesDTO.decodeId(since);
+        Long confirmado = contadorRepository.findValor();
+        long ate = confirmado != null ? confirmado : 0L;
+        PageRequest pagina = PageRequest.of(0, limit + 1);
+        List<Object[]> alterados = repository.findAlteracoesDesde(desde, desdeId, ate, pagina);
+        List<ChamadoExcluido> excluidos = excluidoRepository.findExcluidosDesde(desde, desdeId, ate, pagina);
+
+        List<Integer> alteradosIds = new ArrayList<>();
+        List<Integer> excluidosPagina = new ArrayList<>();
+        long ultimo = desde;
+        Integer ultimoId = desdeId;
+        int a = 0;
+        int e = 0;
+        while (a + e < limit && (a < alterados.size() || e < excluidos.size())) {
+            Object[] alterado = a < alterados.size() ? alterados.get(a) : null;
+            ChamadoExcluido excluido = e < excluidos.size() ? excluidos.get(e) : null;
+            if (excluido == null || (alterado != null && compara((Long) alterado[0], (Integer) alterado[1],
+                    excluido.getSeqAlteracao(), excluido.getId()) <= 0)) {
+                ultimo = (Long) alterado[0];
+                ultimoId = (Integer) alterado[1];
+                alteradosIds.add(ultimoId);
+                a++;
+            } else {
+                ultimo = excluido.getSeqAlteracao();
+                ultimoId = excluido.getId();
+                excluidosPagina.add(ultimoId);
+                e++;
+            }
+        }
+        boolean hasMore = a < alterados.size() || e < excluidos.size();
+
+        // Mantém a ordem das alterações; um Chamado excluído entre as duas leituras é omitido
+        Map<Integer, ChamadoDTO> porId = new HashMap<>();
+        if (!alteradosIds.isEmpty()) {
+            for (ChamadoDTO dto : repository.findAllDTOByIdIn(alteradosIds)) {
+                porId.put(dto.getId(), dto);
+            }
+        }
+        List<ChamadoDTO> alteradosPagina = new ArrayList<>(alteradosIds.size());
+        for (Integer id : alteradosIds) {
+            ChamadoDTO dto = porId.get(id);
+            if (dto != null) {
+                alteradosPagina.add(dto);
+            }
+        }
+        return new ChamadoChangesDTO(alteradosPagina, excluidosPagina,
+                ChamadoChangesDTO.encodeToken(ultimo, ultimoId), hasMore);
+    }
+
+    /** Compara duas posições (sequência, ID) da sincronização incremental. */
+    private static int compara(long seq1, Integer id1, long seq2, Integer id2) {
+        int c = Long.compare(seq1, seq2);
+        return c != 0 ? c : id1.compareTo(id2);
+    }
+    
+    /**
+     * Percorre todos os Chamados em modo streaming, entregando cada um ao consumidor
+     * assim que é lido do banco. O uso de memória não cresce com o número de Chamados.
+     * * @param action O consumidor que recebe cada ChamadoDTO.
      */
-    public List<Chamado> findAll() {
-        return repository.findAll();
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ChamadoDTO> action) {
+        try (Stream<ChamadoDTO> stream = repository.streamAllDTO()) {
+            stream.forEach(action);
+        }
     }
     
     /**
@@ -62,43 +268,428 @@ public class ChamadoService {
      * * @param objDTO O DTO (Data Transfer Object) contendo os dados do novo Chamado.
      * @return O objeto Chamado persistido na base de dados.
      */
+    @Transactional
     public Chamado create(ChamadoDTO objDTO) {
         objDTO.setId(null);
-        return repository.save(fromDTO(objDTO));
+        Chamado obj = repository.save(fromDTO(objDTO));
+        atribuicaoService.registrar(Collections.singletonList(null), Collections.singletonList(ChamadoEstado.de(obj)));
+        eventPublisher.publishEvent(ChamadoEvento.criados(Collections.singletonList(obj.getId())));
+        return obj;
+    }
+
+    /**
+     * Cria um novo Chamado atribuído ao técnico com a menor carga de trabalho.
+     * <p>
+     * O técnico informado no DTO, se houver, é ignorado. A carga do técnico escolhido já
+     * considera o novo Chamado, de modo que criações simultâneas são distribuídas.
+     * </p>
+     * * @param objDTO O DTO com os dados do novo Chamado, sem o técnico.
+     * @return O objeto Chamado persistido na base de dados.
+     * @throws BadRequestException Se algum campo obrigatório ou código de enum for inválido.
+     * @throws ObjectNotFoundException Se não houver técnicos cadastrados ou o cliente não existir.
+     */
+    @Transactional
+    public Chamado createAutoAtribuido(ChamadoDTO objDTO) {
+        List<String> erros = new ArrayList<>();
+        for (ConstraintViolation<ChamadoDTO> violation : validator.validate(objDTO)) {
+            if (!"tecnico".equals(violation.getPropertyPath().toString())) {
+                erros.add(violation.getMessage());
+            }
+        }
+        if (!erros.isEmpty()) {
+            throw new BadRequestException(String.join("; ", erros));
+        }
+        objDTO.setId(null);
+        objDTO.setTecnico(atribuicaoService.reservar(objDTO.getPrioridade(), objDTO.getStatus()));
+        Chamado obj = repository.save(fromDTO(objDTO));
+        eventPublisher.publishEvent(ChamadoEvento.criados(Collections.singletonList(obj.getId())));
+        return obj;
     }
     
+    /**
+     * Cria vários Chamados de uma vez, em transações de até
+     * {@code helpdesk.chamado.batch.flush-size} Chamados.
+     * <p>
+     * Os IDs de Técnico e Cliente referenciados são verificados com uma consulta {@code IN}
+     * para cada tipo, e os Chamados apontam para referências ({@code getOne}) sem carregar
+     * as entidades. Os IDs vêm da sequência {@code chamado_seq}, o que permite ao Hibernate
+     * agrupar os INSERTs em lotes JDBC ({@code hibernate.jdbc.batch_size}).
+     * </p>
+     * <p>
+     * Itens inválidos (campos obrigatórios, códigos de enum ou IDs inexistentes) são
+     * rejeitados individualmente, sem impedir a criação dos demais. Se o banco recusar uma
+     * parte do lote, ela é desfeita e repetida item a item, cada um em sua transação, de
+     * modo que só os itens recusados são reportados com erro.
+     * </p>
+     * * @param objDTOs Os DTOs dos Chamados a criar.
+     * @return O resultado de cada item, na ordem recebida.
+     * @throws BadRequestException Se o lote exceder {@code helpdesk.chamado.batch.max-items}.
+     */
+    public List<ChamadoLoteItemDTO> createBatch(List<ChamadoDTO> objDTOs) {
+        if (objDTOs.size() > batchMaxItems) {
+            throw new BadRequestException("O lote deve ter no máximo " + batchMaxItems + " chamados");
+        }
+
+        // Uma consulta por tipo para descobrir quais IDs referenciados existem
+        Set<Integer> tecnicoIds = new HashSet<>();
+        Set<Integer> clienteIds = new HashSet<>();
+        for (ChamadoDTO objDTO : objDTOs) {
+            if (objDTO != null && objDTO.getTecnico() != null) {
+                tecnicoIds.add(objDTO.getTecnico());
+            }
+            if (objDTO != null && objDTO.getCliente() != null) {
+                clienteIds.add(objDTO.getCliente());
+            }
+        }
+        Set<Integer> tecnicos = tecnicoIds.isEmpty() ? Collections.emptySet()
+                : new HashSet<>(tecnicoRepository.findIdsByIdIn(tecnicoIds));
+        Set<Integer> clientes = clienteIds.isEmpty() ? Collections.emptySet()
+                : new HashSet<>(clienteRepository.findIdsByIdIn(clienteIds));
+
+        ChamadoLoteItemDTO[] resultado = new ChamadoLoteItemDTO[objDTOs.size()];
+        List<Integer> validos = new ArrayList<>(objDTOs.size());
+        for (int i = 0; i < objDTOs.size(); i++) {
+            List<String> erros = validaItemLote(objDTOs.get(i), tecnicos, clientes);
+            if (erros.isEmpty()) {
+                validos.add(i);
+            } else {
+                resultado[i] = new ChamadoLoteItemDTO(i, null, erros);
+            }
+        }
+
+        for (int inicio = 0; inicio < validos.size(); inicio += batchFlushSize) {
+            List<Integer> parte = validos.subList(inicio, Math.min(inicio + batchFlushSize, validos.size()));
+            try {
+                for (ChamadoLoteItemDTO item : transactionTemplate.execute(status -> insereLote(objDTOs, parte))) {
+                    resultado[item.getIndice()] = item;
+                }
+            } catch (DataAccessException | PersistenceException | TransactionException e) {
+                // A parte inteira foi desfeita: repete item a item para isolar os recusados
+                for (Integer i : parte) {
+                    try {
+                        resultado[i] = transactionTemplate.execute(
+                                status -> insereLote(objDTOs, Collections.singletonList(i))).get(0);
+                    } catch (DataAccessException | PersistenceException | TransactionException ex) {
+                        resultado[i] = new ChamadoLoteItemDTO(i, null,
+                                Collections.singletonList("Não foi possível gravar o chamado: " + causa(ex)));
+                    }
+                }
+            }
+        }
+        return Arrays.asList(resultado);
+    }
+
+    /**
+     * Insere parte de um lote na transação corrente, já validada por {@link #validaItemLote}.
+     * A atualização das cargas de trabalho e o evento de criação só têm efeito após o commit.
+     * * @param objDTOs Todos os itens do lote.
+     * @param indices As posições, em {@code objDTOs}, dos itens a inserir.
+     * @return O resultado de cada item inserido.
+     */
+    private List<ChamadoLoteItemDTO> insereLote(List<ChamadoDTO> objDTOs, List<Integer> indices) {
+        List<ChamadoLoteItemDTO> resultado = new ArrayList<>(indices.size());
+        List<ChamadoEstado> estados = new ArrayList<>(indices.size());
+        List<Integer> criados = new ArrayList<>(indices.size());
+        for (Integer i : indices) {
+            ChamadoDTO objDTO = objDTOs.get(i);
+            Chamado chamado = new Chamado();
+            chamado.setPrioridade(objDTO.getPrioridade());
+            chamado.setStatus(objDTO.getStatus());
+            chamado.setTitulo(objDTO.getTitulo());
+            chamado.setObservacoes(objDTO.getObservacoes());
+            chamado.setTecnico(tecnicoRepository.getOne(objDTO.getTecnico()));
+            chamado.setCliente(clienteRepository.getOne(objDTO.getCliente()));
+            chamado.setDataAbertura(objDTO.getDataAbertura() != null ? objDTO.getDataAbertura() : LocalDate.now());
+            em.persist(chamado);
+            estados.add(new ChamadoEstado(chamado.getId(), chamado.getStatus(), chamado.getPrioridade(),
+                    objDTO.getTecnico()));
+            criados.add(chamado.getId());
+            resultado.add(new ChamadoLoteItemDTO(i, chamado.getId(), Collections.emptyList()));
+        }
+        // Envia os INSERTs ainda dentro da transação, para que uma recusa do banco caia aqui
+        em.flush();
+        atribuicaoService.registrar(Collections.nCopies(estados.size(), null), estados);
+        eventPublisher.publishEvent(ChamadoEvento.criados(criados));
+        return resultado;
+    }
+
+    /**
+     * Obtém a mensagem mais específica de uma falha de gravação (normalmente a do driver JDBC).
+     * * @param e A exceção lançada na gravação.
+     * @return A mensagem da causa mais interna.
+     */
+    private static String causa(Throwable e) {
+        Throwable causa = e;
+        while (causa.getCause() != null && causa.getCause() != causa) {
+            causa = causa.getCause();
+        }
+        return causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName();
+    }
+
+    /**
+     * Valida um item da criação em lote.
+     * * @param objDTO O item recebido.
+     * @param tecnicos IDs de Técnicos existentes.
+     * @param clientes IDs de Clientes existentes.
+     * @return As mensagens de erro do item (vazia se válido).
+     */
+    private List<String> validaItemLote(ChamadoDTO objDTO, Set<Integer> tecnicos, Set<Integer> clientes) {
+        if (objDTO == null) {
+            return Collections.singletonList("Item vazio");
+        }
+        List<String> erros = new ArrayList<>();
+        for (ConstraintViolation<ChamadoDTO> violation : validator.validate(objDTO)) {
+            erros.add(violation.getMessage());
+        }
+        // Códigos de prioridade e status fora dos valores conhecidos
+        try {
+            objDTO.getPrioridade();
+        } catch (BadRequestException e) {
+            erros.add(e.getMessage());
+        }
+        try {
+            objDTO.getStatus();
+        } catch (BadRequestException e) {
+            erros.add(e.getMessage());
+        }
+        if (objDTO.getTecnico() != null && !tecnicos.contains(objDTO.getTecnico())) {
+            erros.add("Técnico não encontrado! Id: " + objDTO.getTecnico());
+        }
+        if (objDTO.getCliente() != null && !clientes.contains(objDTO.getCliente())) {
+            erros.add("Cliente não encontrado! Id: " + objDTO.getCliente());
+        }
+        return erros;
+    }
+
     /**
      * Atualiza os dados de um Chamado existente.
+     * * <p>
+     * Os dados são aplicados sobre a entidade carregada, e o UPDATE gerado pelo Hibernate
+     * inclui a condição de versão: uma alteração concorrente entre a leitura e a gravação
+     * resulta em {@code ObjectOptimisticLockingFailureException} (409).
+     * </p>
      * * @param id O ID do Chamado a ser atualizado.
      * @param objDTO O DTO com os novos dados do Chamado.
+     * @param versao A versão esperada (cabeçalho {@code If-Match}) ou {@code null} para não verificar.
      * @return O objeto Chamado atualizado.
      * @throws ObjectNotFoundException Se o ID do chamado não for encontrado.
+     * @throws PreconditionFailedException Se a versão atual for diferente da esperada.
      */
-    public Chamado update(Integer id, ChamadoDTO objDTO) {
+    @Transactional
+    public Chamado update(Integer id, ChamadoDTO objDTO, Integer versao) {
         objDTO.setId(id);
         Chamado oldObj = findById(id);
-        oldObj = fromDTO(objDTO);
-        return repository.save(oldObj);
+        verificaVersao(oldObj, versao);
+        ChamadoEstado antes = ChamadoEstado.de(oldObj);
+        fromDTO(objDTO, oldObj);
+        // flush para que a nova versão já esteja no objeto retornado (ETag da resposta)
+        oldObj = repository.saveAndFlush(oldObj);
+        registraAlteracoes(Collections.singletonList(antes), Collections.singletonList(ChamadoEstado.de(oldObj)));
+        eventPublisher.publishEvent(ChamadoEvento.alterados(Collections.singletonList(id),
+                Collections.singletonList(antes)));
+        return oldObj;
     }
+
+    /**
+     * Verifica se o Chamado está na versão esperada pelo cliente.
+     * @param obj O Chamado carregado.
+     * @param versao A versão esperada, ou {@code null} para não verificar.
+     * @throws PreconditionFailedException Se a versão for diferente.
+     */
+    private void verificaVersao(Chamado obj, Integer versao) {
+        if (versao != null && !versao.equals(obj.getVersion())) {
+            throw new PreconditionFailedException("Chamado alterado por outra requisição! Id: " + obj.getId()
+                    + ", versão atual: " + obj.getVersion() + ", versão informada: " + versao);
+        }
+    }
+
+    /**
+     * Altera apenas os campos informados de um Chamado, com uma única instrução UPDATE.
+     * * <p>
+     * Se só título, observações ou cliente forem alterados, nada é carregado antes da
+     * alteração: a existência do chamado é verificada pela quantidade de registros alterados
+     * e a do técnico/cliente pela chave estrangeira.
+     * </p>
+     * <p>
+     * Se status, prioridade ou técnico forem alterados, o estado anterior desses campos
+     * (para o histórico) e a versão são lidos antes, sem bloqueio, e o UPDATE só é aplicado
+     * se a versão lida ainda for a atual. Assim o estado anterior registrado é sempre o que
+     * foi substituído, ao custo de um SELECT pela chave primária; uma alteração concorrente
+     * entre a leitura e o UPDATE resulta em conflito, como no {@link #update}.
+     * </p>
+     * * @param id O ID do Chamado a ser alterado.
+     * @param patch Os campos a alterar.
+     * @param versao A versão esperada (cabeçalho {@code If-Match}) ou {@code null} para não verificar.
+     * @throws ObjectNotFoundException Se o chamado não for encontrado.
+     * @throws PreconditionFailedException Se o chamado existir em outra versão.
+     * @throws ObjectOptimisticLockingFailureException Se o chamado for alterado por outra
+     * requisição entre a leitura do estado anterior e o UPDATE.
+     * @throws DataIntegrityViolationException Se o técnico ou cliente informado não existir.
+     * @throws BadRequestException Se nenhum campo for informado, se um código de enum
+     * for inválido ou se título/observações forem vazios.
+     */
+    @Transactional
+    public void patch(Integer id, ChamadoPatchDTO patch, Integer versao) {
+        if (patch.isVazio()) {
+            throw new BadRequestException("Nenhum campo informado para alteração");
+        }
+        if ((patch.getTitulo() != null && patch.getTitulo().isEmpty())
+                || (patch.getObservacoes() != null && patch.getObservacoes().isEmpty())) {
+            throw new BadRequestException("Os campos TÍTULO e OBSERVAÇÕES não podem ser vazios");
+        }
+        // Estado anterior dos campos acompanhados pelo histórico, só se algum deles for alterado
+        List<ChamadoEstado> antes = Collections.emptyList();
+        Integer esperada = versao;
+        if (patch.getStatus() != null || patch.getPrioridade() != null || patch.getTecnico() != null) {
+            ChamadoEstado estado = repository.findEstadoById(id).orElseThrow(() -> new ObjectNotFoundException(
+                    "Chamado não encontrado! Id: " + id + ", Tipo: " + Chamado.class.getName()));
+            if (versao != null && !versao.equals(estado.getVersao())) {
+                throw new PreconditionFailedException("Chamado alterado por outra requisição! Id: " + id
+                        + ", versão atual: " + estado.getVersao() + ", versão informada: " + versao);
+            }
+            antes = Collections.singletonList(estado);
+            // O UPDATE só vale para a versão lida: o estado anterior é o que será substituído
+            esperada = estado.getVersao();
+        }
+        int alterados;
+        try {
+            alterados = repository.patch(id, patch, esperada);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            throw new DataIntegrityViolationException("Técnico ou cliente informado não existe!");
+        }
+        if (alterados == 0 && versao != null && repository.existsById(id)) {
+            throw new PreconditionFailedException("Chamado alterado por outra requisição! Id: " + id
+                    + ", versão informada: " + versao);
+        }
+        if (alterados == 0 && esperada != null && repository.existsById(id)) {
+            throw new ObjectOptimisticLockingFailureException(Chamado.class, id);
+        }
+        if (alterados == 0) {
+            throw new ObjectNotFoundException(
+                "Chamado não encontrado! Id: " + id + ", Tipo: " + Chamado.class.getName());
+        }
+        List<ChamadoEstado> depois = new ArrayList<>(antes.size());
+        for (ChamadoEstado estado : antes) {
+            depois.add(estado.com(Status.toEnum(patch.getStatus()), Prioridade.toEnum(patch.getPrioridade()),
+                    patch.getTecnico()));
+        }
+        registraAlteracoes(antes, depois);
+        eventPublisher.publishEvent(ChamadoEvento.alterados(Collections.singletonList(id), antes));
+    }
+
+    /**
+     * Altera o status de vários Chamados com uma única instrução UPDATE.
+     * * @param ids Os IDs dos Chamados.
+     * @param status O código do novo status.
+     * @return Quantidade de IDs distintos recebidos e de Chamados alterados.
+     * @throws BadRequestException Se o código do status for inválido.
+     */
+    @Transactional
+    public ChamadoBulkResultadoDTO updateStatus(List<Integer> ids, Integer status) {
+        Status novoStatus = Status.toEnum(status);
+        Set<Integer> distintos = new LinkedHashSet<>(ids);
+        List<ChamadoEstado> antes = repository.findEstadosByIdIn(distintos);
+        int alterados = repository.updateStatus(distintos, novoStatus, Instant.now());
+        if (alterados > 0) {
+            List<ChamadoEstado> depois = new ArrayList<>(antes.size());
+            for (ChamadoEstado estado : antes) {
+                depois.add(estado.com(novoStatus, null, null));
+            }
+            registraAlteracoes(antes, depois);
+            eventPublisher.publishEvent(ChamadoEvento.alterados(distintos, antes));
+        }
+        return new ChamadoBulkResultadoDTO(distintos.size(), alterados);
+    }
+
+    /**
+     * Atribui vários Chamados a um Técnico com uma única instrução UPDATE.
+     * * @param ids Os IDs dos Chamados.
+     * @param tecnico O ID do novo técnico responsável.
+     * @return Quantidade de IDs distintos recebidos e de Chamados alterados.
+     * @throws ObjectNotFoundException Se o técnico não for encontrado.
+     */
+    @Transactional
+    public ChamadoBulkResultadoDTO updateTecnico(List<Integer> ids, Integer tecnico) {
+        if (!tecnicoRepository.existsById(tecnico)) {
+            throw new ObjectNotFoundException("Técnico não encontrado! Id: " + tecnico);
+        }
+        Set<Integer> distintos = new LinkedHashSet<>(ids);
+        List<ChamadoEstado> antes = repository.findEstadosByIdIn(distintos);
+        int alterados = repository.updateTecnico(distintos, tecnicoRepository.getOne(tecnico), Instant.now());
+        if (alterados > 0) {
+            List<ChamadoEstado> depois = new ArrayList<>(antes.size());
+            for (ChamadoEstado estado : antes) {
+                depois.add(estado.com(null, null, tecnico));
+            }
+            registraAlteracoes(antes, depois);
+            eventPublisher.publishEvent(ChamadoEvento.alterados(distintos, antes));
+        }
+        return new ChamadoBulkResultadoDTO(distintos.size(), alterados);
+    }
+
+    /**
+     * Publica os registros de histórico das diferenças entre os estados anterior e novo e
+     * ajusta as cargas dos técnicos usadas na atribuição automática.
+     * <p>
+     * Os registros são gravados em lote, em segundo plano, depois do commit; nenhum INSERT
+     * é acrescentado à transação da alteração.
+     * </p>
+     * * @param antes Os estados anteriores dos Chamados.
+     * @param depois Os novos estados, na mesma ordem.
+     */
+    private void registraAlteracoes(List<ChamadoEstado> antes, List<ChamadoEstado> depois) {
+        Instant agora = Instant.now();
+        Integer usuario = usuarioAtual();
+        List<ChamadoHistorico> registros = new ArrayList<>();
+        for (int i = 0; i < antes.size(); i++) {
+            antes.get(i).diferencas(depois.get(i), agora, usuario, registros);
+        }
+        if (!registros.isEmpty()) {
+            eventPublisher.publishEvent(new ChamadoHistoricoEvento(registros));
+        }
+        atribuicaoService.registrar(antes, depois);
+    }
+
+    /**
+     * Retorna o ID do usuário autenticado na requisição atual.
+     * * @return O ID do usuário ou {@code null} se não houver usuário autenticado.
+     */
+    private static Integer usuarioAtual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserSS) {
+            return ((UserSS) authentication.getPrincipal()).getId();
+        }
+        return null;
+    }
+
     /**
      * Deleta um Chamado existente pelo seu ID.
      * * <p>
      * O método primeiro verifica a existência do chamado usando {@code findById(id)}.
-     * Se encontrado, tenta realizar a delação.
+     * Se encontrado, tenta realizar a delação e registra a exclusão em {@link ChamadoExcluido},
+     * na mesma transação, para a sincronização incremental.
      * </p>
      * * @param id O ID do Chamado a ser deletado.
      * @throws ObjectNotFoundException Se o Chamado com o ID fornecido não for encontrado.
      * @throws DataIntegrityViolationException Se houver uma violação de integridade referencial 
      * (embora incomum para Chamados) que impeça a deleção.
      */
+    @Transactional
     public void delete(Integer id) {
-        findById(id); // Verifica se o chamado existe
+        // Verifica se o chamado existe e guarda o estado enviado no evento de exclusão
+        ChamadoDTO excluido = findDTOById(id);
         try {
             repository.deleteById(id);
+            // flush para que a violação de integridade ocorra aqui, e não no commit
+            repository.flush();
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
              throw new DataIntegrityViolationException(
                 "Chamado não pode ser deletado, pois possui vínculos (embora seja improvável)!");
         }
+        excluidoRepository.save(new ChamadoExcluido(id, Instant.now()));
+        atribuicaoService.registrar(Collections.singletonList(new ChamadoEstado(id, excluido.getStatus(),
+                excluido.getPrioridade(), excluido.getTecnico())), Collections.singletonList(null));
+        eventPublisher.publishEvent(ChamadoEvento.excluido(excluido));
     }
     
     /**
@@ -108,14 +699,22 @@ public class ChamadoService {
      * @return O objeto Chamado preenchido com as Entidades referenciadas.
      */
     private Chamado fromDTO(ChamadoDTO objDTO) {
-        Tecnico tecnico = tecnicoService.findById(objDTO.getTecnico());
-        Cliente cliente = clienteService.findById(objDTO.getCliente());
-        
         Chamado chamado = new Chamado();
-        
         if (objDTO.getId() != null) {
             chamado.setId(objDTO.getId());
         }
+        return fromDTO(objDTO, chamado);
+    }
+
+    /**
+     * Copia os dados de um ChamadoDTO para um Chamado, novo ou já gerenciado.
+     * * @param objDTO O objeto DTO com os dados.
+     * @param chamado O Chamado a ser preenchido (o ID e a versão não são alterados).
+     * @return O próprio Chamado, preenchido com as Entidades referenciadas.
+     */
+    private Chamado fromDTO(ChamadoDTO objDTO, Chamado chamado) {
+        Tecnico tecnico = tecnicoService.findById(objDTO.getTecnico());
+        Cliente cliente = clienteService.findById(objDTO.getCliente());
         
         // Configura prioridade e status usando as enums
         chamado.setPrioridade(objDTO.getPrioridade());
@@ -129,7 +728,7 @@ public class ChamadoService {
         // Mantém a data de abertura original ou define nova
         if (objDTO.getDataAbertura() != null) {
             chamado.setDataAbertura(objDTO.getDataAbertura());
-        } else {
+        } else if (chamado.getDataAbertura() == null) {
             chamado.setDataAbertura(LocalDate.now());
         }
         
@@ -2,14 +2,20 @@ package com.turmab.helpdesk.service;
 
 import com.turmab.helpdesk.domain.Cliente;
 import com.turmab.helpdesk.domain.dto.ClienteDTO;
+import com.turmab.helpdesk.domain.dto.PessoaResumoDTO;
 import com.turmab.helpdesk.domain.enums.Perfil;
 import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.PessoaRepository;
+import com.turmab.helpdesk.security.UserSSCache;
 import com.turmab.helpdesk.security.UserSS;
 import com.turmab.helpdesk.service.exceptions.AuthorizationException;
 import com.turmab.helpdesk.service.exceptions.DataIntegrityViolationException;
 import com.turmab.helpdesk.service.exceptions.ObjectNotFoundException;
+import com.turmab.helpdesk.service.exceptions.PreconditionFailedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +34,14 @@ public class ClienteService {
     /** Repositório para acesso aos dados da entidade Cliente. */
     @Autowired
     private ClienteRepository repository;
+
+    /** Repositório de Pessoas, usado para identificar o CPF/e-mail duplicado. */
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    /** Cache dos usuários autenticados, invalidado a cada alteração ou exclusão. */
+    @Autowired
+    private UserSSCache userCache;
     
     @Autowired
     private BCryptPasswordEncoder BCryptPasswordEncoder;
@@ -38,6 +52,7 @@ public class ClienteService {
      * @return O objeto Cliente encontrado.
      * @throws ObjectNotFoundException Caso o ID do cliente não seja encontrado.
      */
+    @Transactional(readOnly = true)
     public Cliente findById(Integer id) {
         Optional<Cliente> obj = repository.findById(id);
         return obj.orElseThrow(() -> new ObjectNotFoundException(
@@ -48,9 +63,22 @@ public class ClienteService {
      * Retorna uma lista com todos os Clientes cadastrados.
      * * @return Uma lista de objetos Cliente.
      */
+    @Transactional(readOnly = true)
     public List<Cliente> findAll() {
         return repository.findAll();
     }
+
+    /**
+     * Retorna uma página de Clientes usando paginação por cursor (keyset), já projetados em
+     * resumo (sem CPF e senha) por uma única consulta.
+     * * @param after O último ID da página anterior ou {@code null} para a primeira página.
+     * @param limit A quantidade máxima de Clientes a retornar.
+     * @return Uma lista com até {@code limit} resumos com ID maior que {@code after}.
+     */
+    @Transactional(readOnly = true)
+    public List<PessoaResumoDTO> findPage(Integer after, int limit) {
+        return repository.findResumoPage(after, PageRequest.of(0, limit));
+    }
     
     /**
      * Cria um novo Cliente no sistema.
@@ -60,24 +88,33 @@ public class ClienteService {
      */
     public Cliente create(ClienteDTO objDTO) {
         objDTO.setId(null);
-        validaPorCpfEEmail(objDTO);
         Cliente newObj = new Cliente(objDTO);
         newObj.setSenha(BCryptPasswordEncoder.encode(objDTO.getSenha()));
-        return repository.save(newObj);
+        try {
+            return repository.saveAndFlush(newObj);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            throw violacaoCpfOuEmail(objDTO, e);
+        }
     }
     
     /**
      * Atualiza os dados de um Cliente existente.
      * * @param id O ID do Cliente a ser atualizado.
      * @param objDTO O DTO com os novos dados do Cliente.
+     * @param versao A versão esperada (cabeçalho {@code If-Match}) ou {@code null} para não verificar.
      * @return O objeto Cliente atualizado.
      * @throws ObjectNotFoundException Se o ID do cliente não for encontrado.
+     * @throws PreconditionFailedException Se a versão atual for diferente da esperada.
      * @throws DataIntegrityViolationException Se a atualização violar a unicidade de CPF ou Email.
      */
-    public Cliente update(Integer id, ClienteDTO objDTO) {
+    @Transactional
+    public Cliente update(Integer id, ClienteDTO objDTO, Integer versao) {
         objDTO.setId(id);
         Cliente oldObj = findById(id);
-        validaPorCpfEEmail(objDTO);
+        if (versao != null && !versao.equals(oldObj.getVersion())) {
+            throw new PreconditionFailedException("Cliente alterado por outra requisição! Id: " + id
+                    + ", versão atual: " + oldObj.getVersion() + ", versão informada: " + versao);
+        }
      // Verifica se a senha foi alterada
         if (!objDTO.getSenha().equals(oldObj.getSenha()) && 
             !objDTO.getSenha().startsWith("$2a$")) {
@@ -85,8 +122,17 @@ public class ClienteService {
             String senhaCriptografada = BCryptPasswordEncoder.encode(objDTO.getSenha());
             objDTO.setSenha(senhaCriptografada);
         }
-        oldObj = new Cliente(objDTO);
-        return repository.save(oldObj);
+        String emailAnterior = oldObj.getEmail();
+        // Altera a entidade gerenciada: o UPDATE verifica e incrementa a versão
+        oldObj.atualizar(objDTO);
+        try {
+            oldObj = repository.saveAndFlush(oldObj);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            throw violacaoCpfOuEmail(objDTO, e);
+        }
+        userCache.invalidate(emailAnterior);
+        userCache.invalidate(oldObj.getEmail());
+        return oldObj;
     }
     
     /**
@@ -101,6 +147,7 @@ public class ClienteService {
         
         try {
             repository.deleteById(id);
+            userCache.invalidate(obj.getEmail());
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
             throw new DataIntegrityViolationException(
                 "Cliente possui chamados e não pode ser deletado!");
@@ -108,22 +155,21 @@ public class ClienteService {
     }
     
     /**
-     * Verifica se o CPF e o Email fornecidos no DTO já existem na base de dados
-     * e garante que não haja duplicidade ao tentar criar ou atualizar um Cliente.
-     * * @param objDTO O DTO do Cliente com os dados a serem validados.
-     * @throws DataIntegrityViolationException Se o CPF ou Email já estiverem cadastrados por outro usuário.
+     * Traduz a violação de integridade recusada pelo banco na gravação de um cliente.
+     * A unicidade de CPF e e-mail fica a cargo do banco; a consulta só roda quando a gravação falha.
+     * * @param objDTO O DTO do Cliente que foi gravado.
+     * @param e A violação lançada pelo repositório.
+     * @return A exceção com a mensagem do campo duplicado.
      */
-    private void validaPorCpfEEmail(ClienteDTO objDTO) {  // CORREÇÃO: Use ClienteDTO aqui
-        Optional<Cliente> obj = repository.findByCpf(objDTO.getCpf());
-        
-        if (obj.isPresent() && !obj.get().getId().equals(objDTO.getId())) {
-            throw new DataIntegrityViolationException("CPF já cadastrado no sistema!");
+    private DataIntegrityViolationException violacaoCpfOuEmail(ClienteDTO objDTO,
+            org.springframework.dao.DataIntegrityViolationException e) {
+        List<String> campos = pessoaRepository.findCamposEmUso(objDTO.getCpf(), objDTO.getEmail(), objDTO.getId());
+        if (campos.contains("CPF")) {
+            return new DataIntegrityViolationException("CPF já cadastrado no sistema!");
         }
-        
-        obj = repository.findByEmail(objDTO.getEmail());
-        
-        if (obj.isPresent() && !obj.get().getId().equals(objDTO.getId())) {
-            throw new DataIntegrityViolationException("E-mail já cadastrado no sistema!");
+        if (campos.contains("EMAIL")) {
+            return new DataIntegrityViolationException("E-mail já cadastrado no sistema!");
         }
+        return new DataIntegrityViolationException("Dados do cliente violam a integridade do banco!", e);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,272 @@
+package com.turmab.helpdesk.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Pessoa;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+
+/**
+ * Gerador de massa de dados sintética para reproduzir localmente o volume de produção.
+ *
+ * <p>
+ * Configurado pelas propriedades <code>helpdesk.seed.*</code>, que também podem ser passadas
+ * na linha de comando (por exemplo <code>--helpdesk.seed.chamados=1000000</code>):
+ * <ul>
+ *   <li><code>tecnicos</code>, <code>clientes</code>, <code>chamados</code>: quantidades a gerar (0 desativa);</li>
+ *   <li><code>batch-size</code>: registros por transação/lote JDBC;</li>
+ *   <li><code>threads</code>: transações em paralelo (0 usa a quantidade de processadores);</li>
+ *   <li><code>dias</code>: período, até hoje, em que os chamados são abertos;</li>
+ *   <li><code>semente</code>: semente do gerador aleatório, para repetir a mesma massa.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Distribuições: prioridades 50% baixa, 35% média e 15% alta; datas de abertura concentradas
+ * nos dias mais recentes; chamados antigos quase sempre encerrados e recentes ainda abertos
+ * ou em andamento; poucos técnicos e clientes concentrando a maior parte dos chamados.
+ * Todos os usuários gerados têm a senha <code>123</code>, criptografada uma única vez.
+ * </p>
+ *
+ * <p>
+ * Para volumes grandes, desative <code>spring.jpa.show-sql</code>: o log de cada INSERT
+ * domina o tempo de geração.
+ * </p>
+ */
+@Service
+public class DBGeradorService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DBGeradorService.class);
+
+    /** Senha de todos os usuários gerados. */
+    private static final String SENHA = "123";
+
+    @Autowired
+    private BCryptPasswordEncoder encoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Value("${helpdesk.seed.tecnicos:0}")
+    private int qtdTecnicos;
+
+    @Value("${helpdesk.seed.clientes:0}")
+    private int qtdClientes;
+
+    @Value("${helpdesk.seed.chamados:0}")
+    private int qtdChamados;
+
+    @Value("${helpdesk.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${helpdesk.seed.threads:0}")
+    private int threads;
+
+    @Value("${helpdesk.seed.dias:730}")
+    private int dias;
+
+    @Value("${helpdesk.seed.semente:42}")
+    private long semente;
+
+    /**
+     * Gera técnicos, clientes e chamados conforme a configuração.
+     * Não faz nada se nenhuma quantidade for informada.
+     */
+    public void gerar() {
+        gerar(qtdTecnicos, qtdClientes, qtdChamados);
+    }
+
+    /**
+     * Gera as quantidades informadas de técnicos, clientes e chamados, com as demais
+     * propriedades <code>helpdesk.seed.*</code>.
+     *
+     * @param qtdTecnicos técnicos a gerar
+     * @param qtdClientes clientes a gerar
+     * @param qtdChamados chamados a gerar, distribuídos entre os técnicos e clientes gerados
+     *        ou, se nenhum for gerado, entre os já cadastrados
+     * @throws IllegalStateException se houver chamados a gerar, mas nenhum técnico ou cliente
+     */
+    public void gerar(int qtdTecnicos, int qtdClientes, int qtdChamados) {
+        if (qtdTecnicos <= 0 && qtdChamados <= 0 && qtdClientes <= 0) {
+            return;
+        }
+        long inicio = System.currentTimeMillis();
+        String senha = encoder.encode(SENHA);
+        SplittableRandom raiz = new SplittableRandom(semente);
+        int n = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(n);
+        try {
+            List<Integer> tecnicos = emLotes(executor, raiz, qtdTecnicos,
+                    (i, random) -> novaPessoa(new Tecnico(), "Técnico", "tecnico", i, senha, random));
+            List<Integer> clientes = emLotes(executor, raiz, qtdClientes,
+                    (i, random) -> novaPessoa(new Cliente(), "Cliente", "cliente", i, senha, random));
+            if (qtdChamados > 0) {
+                // Sem técnicos ou clientes gerados, os chamados usam os já cadastrados
+                List<Integer> tecnicosChamados = tecnicos.isEmpty() ? idsExistentes(Tecnico.class) : tecnicos;
+                List<Integer> clientesChamados = clientes.isEmpty() ? idsExistentes(Cliente.class) : clientes;
+                if (tecnicosChamados.isEmpty() || clientesChamados.isEmpty()) {
+                    throw new IllegalStateException("Não há técnicos ou clientes para os chamados gerados: "
+                            + "informe helpdesk.seed.tecnicos e helpdesk.seed.clientes");
+                }
+                emLotes(executor, raiz, qtdChamados,
+                        (i, random) -> novoChamado(i, tecnicosChamados, clientesChamados, random));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        LOG.info("Massa gerada: {} técnicos, {} clientes e {} chamados em {} ms",
+                qtdTecnicos, qtdClientes, qtdChamados, System.currentTimeMillis() - inicio);
+    }
+
+    /**
+     * Retorna os IDs já cadastrados de um tipo de pessoa.
+     */
+    private List<Integer> idsExistentes(Class<? extends Pessoa> tipo) {
+        return transactionTemplate.execute(status -> em.createQuery(
+                "SELECT p.id FROM " + tipo.getSimpleName() + " p", Integer.class).getResultList());
+    }
+
+    /**
+     * Persiste {@code total} entidades em transações paralelas de {@code batch-size} registros.
+     *
+     * <p>
+     * Cada lote recebe o seu próprio gerador aleatório, derivado da raiz na ordem dos lotes,
+     * para que o conteúdo gerado não dependa da ordem de execução das threads.
+     * </p>
+     *
+     * @param executor pool das transações
+     * @param raiz gerador aleatório raiz
+     * @param total quantidade de entidades
+     * @param fabrica cria a entidade de índice {@code i}
+     * @return os IDs gerados, na ordem dos índices
+     */
+    private List<Integer> emLotes(ExecutorService executor, SplittableRandom raiz, int total,
+                                  BiFunction<Integer, SplittableRandom, Object> fabrica) {
+        List<Future<List<Integer>>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < total; inicio += batchSize) {
+            int de = inicio;
+            int ate = Math.min(inicio + batchSize, total);
+            SplittableRandom random = raiz.split();
+            lotes.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                List<Integer> ids = new ArrayList<>(ate - de);
+                List<Object> entidades = new ArrayList<>(ate - de);
+                for (int i = de; i < ate; i++) {
+                    Object entidade = fabrica.apply(i, random);
+                    em.persist(entidade);
+                    entidades.add(entidade);
+                }
+                em.flush();
+                for (Object entidade : entidades) {
+                    ids.add(entidade instanceof Chamado ? ((Chamado) entidade).getId() : ((Pessoa) entidade).getId());
+                }
+                em.clear();
+                return ids;
+            })));
+        }
+        List<Integer> ids = new ArrayList<>(total);
+        for (Future<List<Integer>> lote : lotes) {
+            try {
+                ids.addAll(lote.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Geração da massa de dados interrompida", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falha na geração da massa de dados", e.getCause());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Preenche um técnico ou cliente gerado.
+     */
+    private Pessoa novaPessoa(Pessoa pessoa, String nome, String email, int i, String senha,
+                              SplittableRandom random) {
+        pessoa.setNome(nome + " " + (i + 1));
+        // Faixas distintas de CPF para técnicos e clientes
+        pessoa.setCpf(cpf((pessoa instanceof Tecnico ? 100_000_000 : 200_000_000) + i));
+        pessoa.setEmail(email + (i + 1) + "@helpdesk.local");
+        pessoa.setSenha(senha);
+        pessoa.setDataCriacao(LocalDate.now().minusDays(dias + random.nextInt(365)));
+        return pessoa;
+    }
+
+    /**
+     * Cria um chamado com prioridade, status, data e vínculos sorteados.
+     */
+    private Chamado novoChamado(int i, List<Integer> tecnicos, List<Integer> clientes, SplittableRandom random) {
+        // Quadrado do sorteio: concentra os valores próximos de zero
+        double r = random.nextDouble();
+        int idade = (int) (dias * r * r);
+
+        double p = random.nextDouble();
+        Prioridade prioridade = p < 0.50 ? Prioridade.BAIXA : p < 0.85 ? Prioridade.MEDIA : Prioridade.ALTA;
+
+        double s = random.nextDouble();
+        Status status;
+        if (idade > 30) {
+            status = s < 0.95 ? Status.ENCERRADO : s < 0.98 ? Status.ANDAMENTO : Status.ABERTO;
+        } else {
+            status = s < 0.40 ? Status.ABERTO : s < 0.75 ? Status.ANDAMENTO : Status.ENCERRADO;
+        }
+
+        double t = random.nextDouble();
+        double c = random.nextDouble();
+        Tecnico tecnico = em.getReference(Tecnico.class, tecnicos.get((int) (tecnicos.size() * t * t)));
+        Cliente cliente = em.getReference(Cliente.class, clientes.get((int) (clientes.size() * c * c)));
+
+        Chamado chamado = new Chamado(null, prioridade, status, "Chamado " + (i + 1),
+                "Chamado gerado automaticamente", tecnico, cliente);
+        chamado.setDataAbertura(LocalDate.now().minusDays(idade));
+        return chamado;
+    }
+
+    /**
+     * Monta um CPF válido (com dígitos verificadores) a partir de um número de 9 dígitos.
+     */
+    private static String cpf(int base) {
+        int[] d = new int[11];
+        for (int i = 8; i >= 0; i--) {
+            d[i] = base % 10;
+            base /= 10;
+        }
+        for (int j = 9; j <= 10; j++) {
+            int soma = 0;
+            for (int i = 0; i < j; i++) {
+                soma += d[i] * (j + 1 - i);
+            }
+            int resto = soma % 11;
+            d[j] = resto < 2 ? 0 : 11 - resto;
+        }
+        StringBuilder sb = new StringBuilder(11);
+        for (int x : d) {
+            sb.append(x);
+        }
+        return sb.toString();
+    }
+}
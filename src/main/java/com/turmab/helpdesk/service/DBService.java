@@ -31,6 +31,10 @@ public class DBService {
 	@Autowired
 	private ChamadoRepository chamadoRepository;
 	
+	/** Gerador da massa de dados sintética ({@code helpdesk.seed.*}). */
+	@Autowired
+	private DBGeradorService geradorService;
+	
 	public void instanciaDB() {
 		Tecnico tec1 = new Tecnico(null,"Bill Gates", "765045777093","bill@mail.com",encoder.encode("123"));
 		tec1.addPerfil(Perfil.ADMIN);
@@ -41,5 +45,7 @@ public class DBService {
 		tecnicoRepository.saveAll(Arrays.asList(tec1));
 		clienteRepository.saveAll(Arrays.asList(cli1));
 		chamadoRepository.saveAll(Arrays.asList(cha1));
+		
+		geradorService.gerar();
 	}
 }
@@ -2,12 +2,19 @@ package com.turmab.helpdesk.service;
 
 import com.turmab.helpdesk.domain.Tecnico;
 import com.turmab.helpdesk.domain.dto.TecnicoDTO;
+import com.turmab.helpdesk.domain.dto.PessoaResumoDTO;
 import com.turmab.helpdesk.repositories.TecnicoRepository;
+import com.turmab.helpdesk.repositories.PessoaRepository;
+import com.turmab.helpdesk.security.UserSSCache;
 import com.turmab.helpdesk.service.exceptions.DataIntegrityViolationException;
 import com.turmab.helpdesk.service.exceptions.ObjectNotFoundException;
+import com.turmab.helpdesk.service.exceptions.PreconditionFailedException;
+import com.turmab.helpdesk.service.atribuicao.AtribuicaoService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +36,18 @@ public class TecnicoService {
     /** Repositório para acesso aos dados da entidade Técnico. */
     @Autowired
     private TecnicoRepository repository;
+
+    /** Repositório de Pessoas, usado para identificar o CPF/e-mail duplicado. */
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    /** Cache dos usuários autenticados, invalidado a cada alteração ou exclusão. */
+    @Autowired
+    private UserSSCache userCache;
+
+    /** Atribuição automática de chamados, informada dos técnicos criados e excluídos. */
+    @Autowired
+    private AtribuicaoService atribuicaoService;
     
     /**
      * Busca um Técnico pelo seu ID.
@@ -36,6 +55,7 @@ public class TecnicoService {
      * @return O objeto Técnico encontrado.
      * @throws ObjectNotFoundException Caso o ID do técnico não seja encontrado.
      */
+    @Transactional(readOnly = true)
     public Tecnico findById(Integer id) {
         Optional<Tecnico> obj = repository.findById(id);
         return obj.orElseThrow(() -> new ObjectNotFoundException(
@@ -46,9 +66,22 @@ public class TecnicoService {
      * Retorna uma lista com todos os Técnicos cadastrados.
      * * @return Uma lista de objetos Técnico.
      */
+    @Transactional(readOnly = true)
     public List<Tecnico> findAll() {
         return repository.findAll();
     }
+
+    /**
+     * Retorna uma página de Técnicos usando paginação por cursor (keyset), já projetados em
+     * resumo (sem CPF e senha) por uma única consulta.
+     * * @param after O último ID da página anterior ou {@code null} para a primeira página.
+     * @param limit A quantidade máxima de Técnicos a retornar.
+     * @return Uma lista com até {@code limit} resumos com ID maior que {@code after}.
+     */
+    @Transactional(readOnly = true)
+    public List<PessoaResumoDTO> findPage(Integer after, int limit) {
+        return repository.findResumoPage(after, PageRequest.of(0, limit));
+    }
     
     /**
      * Cria um novo Técnico no sistema, criptografando a senha antes de salvar.
@@ -58,24 +91,35 @@ public class TecnicoService {
      */
     public Tecnico create(TecnicoDTO objDTO) {
         objDTO.setId(null);
-        validaPorCpfEEmail(objDTO);
         Tecnico newObj = new Tecnico(objDTO);
         newObj.setSenha(bCryptPasswordEncoder.encode(objDTO.getSenha()));
-        return repository.save(newObj);
+        try {
+            newObj = repository.saveAndFlush(newObj);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            throw violacaoCpfOuEmail(objDTO, e);
+        }
+        atribuicaoService.adicionarTecnico(newObj.getId());
+        return newObj;
     }
     
     /**
      * Atualiza os dados de um Técnico existente.
      * * @param id O ID do Técnico a ser atualizado.
      * @param objDTO O DTO com os novos dados do Técnico.
+     * @param versao A versão esperada (cabeçalho {@code If-Match}) ou {@code null} para não verificar.
      * @return O objeto Técnico atualizado.
      * @throws ObjectNotFoundException Se o ID do técnico não for encontrado.
+     * @throws PreconditionFailedException Se a versão atual for diferente da esperada.
      * @throws DataIntegrityViolationException Se a atualização violar a unicidade de CPF ou Email.
      */
-    public Tecnico update(Integer id, TecnicoDTO objDTO) {
+    @Transactional
+    public Tecnico update(Integer id, TecnicoDTO objDTO, Integer versao) {
         objDTO.setId(id);
         Tecnico oldObj = findById(id);
-        validaPorCpfEEmail(objDTO);
+        if (versao != null && !versao.equals(oldObj.getVersion())) {
+            throw new PreconditionFailedException("Técnico alterado por outra requisição! Id: " + id
+                    + ", versão atual: " + oldObj.getVersion() + ", versão informada: " + versao);
+        }
      // Verifica se a senha foi alterada
         if (!objDTO.getSenha().equals(oldObj.getSenha()) && 
             !objDTO.getSenha().startsWith("$2a$")) {
@@ -83,8 +127,17 @@ public class TecnicoService {
             String senhaCriptografada = bCryptPasswordEncoder.encode(objDTO.getSenha());
             objDTO.setSenha(senhaCriptografada);
         }
-        oldObj = new Tecnico(objDTO);
-        return repository.save(oldObj);
+        String emailAnterior = oldObj.getEmail();
+        // Altera a entidade gerenciada: o UPDATE verifica e incrementa a versão
+        oldObj.atualizar(objDTO);
+        try {
+            oldObj = repository.saveAndFlush(oldObj);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            throw violacaoCpfOuEmail(objDTO, e);
+        }
+        userCache.invalidate(emailAnterior);
+        userCache.invalidate(oldObj.getEmail());
+        return oldObj;
     }
     
     /**
@@ -97,6 +150,8 @@ public class TecnicoService {
         Tecnico obj = findById(id);
         try {
             repository.deleteById(id);
+            userCache.invalidate(obj.getEmail());
+            atribuicaoService.removerTecnico(id);
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
             throw new DataIntegrityViolationException(
                 "Técnico possui ordens de serviço e não pode ser deletado!");
@@ -104,24 +159,26 @@ public class TecnicoService {
     }
     
     /**
-     * Verifica se o CPF e o Email fornecidos no DTO já existem na base de dados
-     * e garante que não haja duplicidade ao tentar criar ou atualizar um Técnico.
-     * * @param objDTO O DTO do Técnico com os dados a serem validados.
-     * @throws DataIntegrityViolationException Se o CPF ou Email já estiverem cadastrados por outro usuário.
+     * Traduz a violação de integridade recusada pelo banco na gravação de um técnico.
+     * * <p>
+     * CPF e e-mail não são consultados antes da gravação: o caminho feliz paga apenas o
+     * INSERT/UPDATE e a restrição de unicidade do banco garante a regra, inclusive entre
+     * requisições concorrentes. Só quando a gravação é recusada uma única consulta
+     * identifica o campo em uso, para manter as mensagens de erro.
+     * </p>
+     * * @param objDTO O DTO do Técnico que foi gravado.
+     * @param e A violação lançada pelo repositório.
+     * @return A exceção com a mensagem do campo duplicado.
      */
-    private void validaPorCpfEEmail(TecnicoDTO objDTO) {
-        Optional<Tecnico> obj = repository.findByCpf(objDTO.getCpf());
-        
-        // Verifica se já existe um técnico com o mesmo CPF
-        if (obj.isPresent() && !obj.get().getId().equals(objDTO.getId())) {
-            throw new DataIntegrityViolationException("CPF já cadastrado no sistema!");
+    private DataIntegrityViolationException violacaoCpfOuEmail(TecnicoDTO objDTO,
+            org.springframework.dao.DataIntegrityViolationException e) {
+        List<String> campos = pessoaRepository.findCamposEmUso(objDTO.getCpf(), objDTO.getEmail(), objDTO.getId());
+        if (campos.contains("CPF")) {
+            return new DataIntegrityViolationException("CPF já cadastrado no sistema!");
         }
-        
-        obj = repository.findByEmail(objDTO.getEmail());
-        
-        // Verifica se já existe um técnico com o mesmo email
-        if (obj.isPresent() && !obj.get().getId().equals(objDTO.getId())) {
-            throw new DataIntegrityViolationException("E-mail já cadastrado no sistema!");
+        if (campos.contains("EMAIL")) {
+            return new DataIntegrityViolationException("E-mail já cadastrado no sistema!");
         }
+        return new DataIntegrityViolationException("Dados do técnico violam a integridade do banco!", e);
     }
-}
\ No newline at end of file
+}
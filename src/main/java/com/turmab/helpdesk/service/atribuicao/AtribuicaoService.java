@@ -0,0 +1,373 @@
+package com.turmab.helpdesk.service.atribuicao;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+import com.turmab.helpdesk.service.exceptions.ObjectNotFoundException;
+import com.turmab.helpdesk.service.historico.ChamadoEstado;
+
+/**
+ * Atribuição automática de Chamados ao técnico com a menor carga de trabalho.
+ *
+ * <p>
+ * A carga de um técnico é a soma dos pesos dos seus Chamados não encerrados, com o peso de
+ * cada prioridade configurado em <code>helpdesk.atribuicao.peso.*</code>. As cargas ficam em
+ * memória em um {@link ConcurrentSkipListSet} ordenado por (carga, ID): escolher o técnico
+ * com menor carga, e reposicioná-lo depois da atribuição, custa O(log n). A carga é lida do
+ * banco apenas na inicialização; depois disso é ajustada de forma incremental pelo
+ * {@link com.turmab.helpdesk.service.ChamadoService} a cada criação, exclusão, mudança de
+ * status, prioridade ou técnico, e pelo {@link com.turmab.helpdesk.service.TecnicoService}
+ * a cada técnico criado ou excluído.
+ * </p>
+ *
+ * <p>
+ * Na atribuição, o técnico escolhido é retirado do conjunto ({@code pollFirst}, atômico) e
+ * devolvido com a nova carga, de modo que criações simultâneas nunca escolhem o técnico com
+ * base na mesma carga. A carga reservada é desfeita se a transação da criação não for
+ * confirmada. Os demais ajustes são aplicados depois do commit.
+ * </p>
+ *
+ * <p>
+ * Enquanto as cargas não são lidas, as transações que as alterariam seguram, do
+ * {@code beforeCommit} ao fim da transação, a trava de leitura de {@link #carga}; a leitura
+ * das cargas segura a trava de escrita. Assim, cada commit fica inteiro antes da leitura
+ * (já incluído nela, e o ajuste é ignorado) ou inteiro depois (e o ajuste é aplicado),
+ * sem perder nem contar duas vezes uma alteração. Depois da leitura, a trava não é mais usada.
+ * </p>
+ */
+@Service
+public class AtribuicaoService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AtribuicaoService.class);
+
+    /** Ordem das cargas: menor carga primeiro e, no empate, menor ID. */
+    private static final Comparator<Carga> ORDEM =
+            Comparator.comparingLong((Carga c) -> c.peso).thenComparing(c -> c.tecnico);
+
+    /** Repositório usado para calcular as cargas na inicialização. */
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    /** Repositório usado para listar os técnicos na inicialização. */
+    @Autowired
+    private TecnicoRepository tecnicoRepository;
+
+    /** Gerenciador usado para ler as cargas em uma transação própria. */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${helpdesk.atribuicao.peso.baixa:1}")
+    private int pesoBaixa;
+
+    @Value("${helpdesk.atribuicao.peso.media:2}")
+    private int pesoMedia;
+
+    @Value("${helpdesk.atribuicao.peso.alta:4}")
+    private int pesoAlta;
+
+    /** Peso de cada prioridade na carga do técnico. */
+    private final Map<Prioridade, Integer> pesos = new EnumMap<>(Prioridade.class);
+
+    /** Carga atual de cada técnico, por ID. */
+    private final Map<Integer, Carga> cargas = new ConcurrentHashMap<>();
+
+    /**
+     * Cargas ordenadas por (carga, ID). Um técnico fica fora do conjunto apenas enquanto
+     * está sendo atribuído, entre o {@code pollFirst} e a devolução com a nova carga.
+     */
+    private final ConcurrentSkipListSet<Carga> ordenadas = new ConcurrentSkipListSet<>(ORDEM);
+
+    /** Indica se as cargas já foram lidas do banco. */
+    private volatile boolean carregado;
+
+    /**
+     * Separa a leitura das cargas (escrita) dos commits que as alteram (leitura), até que
+     * as cargas sejam lidas.
+     */
+    private final ReadWriteLock carga = new ReentrantReadWriteLock();
+
+    /**
+     * Transação própria da leitura das cargas: uma transação já aberta pode ter um snapshot
+     * anterior a commits cujos ajustes foram ignorados. Não é somente leitura, para ir ao
+     * banco principal e não a uma réplica atrasada.
+     */
+    private TransactionTemplate leitura;
+
+    /**
+     * Monta a tabela de pesos.
+     */
+    @PostConstruct
+    public void init() {
+        pesos.put(Prioridade.BAIXA, pesoBaixa);
+        pesos.put(Prioridade.MEDIA, pesoMedia);
+        pesos.put(Prioridade.ALTA, pesoAlta);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Lê as cargas do banco depois da inicialização (e da carga inicial da base).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        garantirCarga();
+    }
+
+    /**
+     * Escolhe o técnico com menor carga e já soma a ele o peso do novo Chamado.
+     * <p>
+     * Deve ser chamado dentro da transação que cria o Chamado: se ela não for confirmada,
+     * o peso é descontado.
+     * </p>
+     *
+     * @param prioridade prioridade do novo Chamado
+     * @param status status do novo Chamado
+     * @return o ID do técnico escolhido
+     * @throws ObjectNotFoundException se não houver técnicos cadastrados
+     */
+    public Integer reservar(Prioridade prioridade, Status status) {
+        garantirCarga();
+        long peso = peso(prioridade, status);
+        Carga escolhida = ordenadas.pollFirst();
+        if (escolhida == null) {
+            throw new ObjectNotFoundException("Nenhum técnico disponível para atribuição automática");
+        }
+        Integer tecnico = escolhida.tecnico;
+        // Devolve ao conjunto a partir da carga atual, que pode ter mudado desde o pollFirst
+        cargas.computeIfPresent(tecnico, (id, atual) -> {
+            Carga nova = new Carga(id, atual.peso + peso);
+            ordenadas.add(nova);
+            return nova;
+        });
+        if (peso != 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        ajustar(tecnico, -peso);
+                    }
+                }
+            });
+        }
+        return tecnico;
+    }
+
+    /**
+     * Ajusta as cargas dos técnicos pelas alterações de Chamados, depois do commit da
+     * transação atual (ou imediatamente, fora de transação).
+     *
+     * @param antes estados anteriores ({@code null} nos Chamados criados)
+     * @param depois novos estados, na mesma ordem ({@code null} nos Chamados excluídos)
+     */
+    public void registrar(List<ChamadoEstado> antes, List<ChamadoEstado> depois) {
+        Map<Integer, Long> deltas = new HashMap<>();
+        for (int i = 0; i < antes.size(); i++) {
+            ChamadoEstado a = antes.get(i);
+            ChamadoEstado d = depois.get(i);
+            if (a != null && a.getTecnico() != null) {
+                deltas.merge(a.getTecnico(), -peso(a.getPrioridade(), a.getStatus()), Long::sum);
+            }
+            if (d != null && d.getTecnico() != null) {
+                deltas.merge(d.getTecnico(), peso(d.getPrioridade(), d.getStatus()), Long::sum);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new AjusteNoCommit(deltas));
+        } else {
+            comCarga(() -> deltas.forEach(this::ajustar));
+        }
+    }
+
+    /**
+     * Passa a considerar um técnico recém-criado, com carga zero.
+     *
+     * @param tecnico ID do técnico
+     */
+    public void adicionarTecnico(Integer tecnico) {
+        comCarga(() -> cargas.computeIfAbsent(tecnico, id -> {
+            Carga nova = new Carga(id, 0);
+            ordenadas.add(nova);
+            return nova;
+        }));
+    }
+
+    /**
+     * Deixa de considerar um técnico excluído.
+     *
+     * @param tecnico ID do técnico
+     */
+    public void removerTecnico(Integer tecnico) {
+        comCarga(() -> cargas.computeIfPresent(tecnico, (id, atual) -> {
+            ordenadas.remove(atual);
+            return null;
+        }));
+    }
+
+    /**
+     * Executa um ajuste já confirmado no banco. Se a leitura das cargas estiver em andamento,
+     * aguarda o seu término; se ainda não tiver começado, o ajuste é ignorado, pois a leitura
+     * o incluirá.
+     */
+    private void comCarga(Runnable ajuste) {
+        if (carregado) {
+            ajuste.run();
+            return;
+        }
+        carga.readLock().lock();
+        try {
+            ajuste.run();
+        } finally {
+            carga.readLock().unlock();
+        }
+    }
+
+    /**
+     * Soma um valor à carga de um técnico, reposicionando-o no conjunto ordenado. Ignorado
+     * enquanto as cargas não forem lidas.
+     */
+    private void ajustar(Integer tecnico, long delta) {
+        if (!carregado) {
+            return;
+        }
+        cargas.computeIfPresent(tecnico, (id, atual) -> {
+            Carga nova = new Carga(id, atual.peso + delta);
+            // Fora do conjunto, o técnico está sendo atribuído: a atribuição o devolve com esta carga
+            if (ordenadas.remove(atual)) {
+                ordenadas.add(nova);
+            }
+            return nova;
+        });
+    }
+
+    private long peso(Prioridade prioridade, Status status) {
+        return status == Status.ENCERRADO ? 0 : pesos.get(prioridade);
+    }
+
+    /**
+     * Lê as cargas do banco uma única vez, com a trava de escrita: os commits confirmados
+     * antes dela estão na leitura e os seguintes, que aguardam a trava, são ajustados depois.
+     */
+    private void garantirCarga() {
+        if (carregado) {
+            return;
+        }
+        carga.writeLock().lock();
+        try {
+            if (carregado) {
+                return;
+            }
+            leitura.executeWithoutResult(status -> ler());
+            carregado = true;
+        } finally {
+            carga.writeLock().unlock();
+        }
+    }
+
+    /** Lê as cargas de todos os técnicos. */
+    private void ler() {
+        Map<Integer, Long> porTecnico = new HashMap<>();
+        for (Integer tecnico : tecnicoRepository.findAllIds()) {
+            porTecnico.put(tecnico, 0L);
+        }
+        for (Object[] linha : chamadoRepository.countPorTecnicoEPrioridadeExcetoStatus(Status.ENCERRADO)) {
+            Integer tecnico = (Integer) linha[0];
+            if (tecnico == null) {
+                continue;
+            }
+            long quantidade = (Long) linha[2];
+            porTecnico.merge(tecnico, quantidade * pesos.get((Prioridade) linha[1]), Long::sum);
+        }
+        List<Carga> lidas = new ArrayList<>(porTecnico.size());
+        porTecnico.forEach((tecnico, peso) -> lidas.add(new Carga(tecnico, peso)));
+        for (Carga lida : lidas) {
+            cargas.put(lida.tecnico, lida);
+        }
+        ordenadas.addAll(lidas);
+        LOG.info("Atribuição automática: cargas de {} técnicos carregadas", lidas.size());
+    }
+
+    /**
+     * Aplica os ajustes de uma transação depois do commit. Enquanto as cargas não são lidas,
+     * segura a trava de leitura do {@code beforeCommit} ao fim da transação; roda antes das
+     * demais sincronizações, para que nenhuma trava do banco obtida no {@code beforeCommit}
+     * (como a do contador de alterações) seja segurada à espera dela.
+     */
+    private final class AjusteNoCommit implements TransactionSynchronization, Ordered {
+        private final Map<Integer, Long> deltas;
+
+        /** Se a trava de leitura foi obtida no beforeCommit. */
+        private boolean travado;
+
+        private AjusteNoCommit(Map<Integer, Long> deltas) {
+            this.deltas = deltas;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!carregado) {
+                carga.readLock().lock();
+                travado = true;
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            deltas.forEach(AtribuicaoService.this::ajustar);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (travado) {
+                carga.readLock().unlock();
+            }
+        }
+    }
+
+    /** Carga de um técnico (imutável: cada ajuste cria uma nova). */
+    private static final class Carga {
+        private final Integer tecnico;
+        private final long peso;
+
+        private Carga(Integer tecnico, long peso) {
+            this.tecnico = tecnico;
+            this.peso = peso;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.turmab.helpdesk.service.eventos;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.service.historico.ChamadoEstado;
+
+/**
+ * Evento publicado pelo {@link com.turmab.helpdesk.service.ChamadoService} a cada criação,
+ * alteração ou exclusão de Chamados.
+ * <p>
+ * Carrega apenas os IDs afetados: os dados atuais só são consultados, depois do commit,
+ * se houver assinantes do feed. Na alteração, leva também o estado anterior (status,
+ * prioridade e técnico), para que o feed avise quem acompanhava o Chamado pelo filtro
+ * antigo. Na exclusão, como o registro deixa de existir, o evento leva o estado anterior
+ * dos Chamados excluídos.
+ * </p>
+ */
+public class ChamadoEvento {
+
+    /** Tipo da alteração, usado como nome do evento SSE. */
+    public enum Tipo {
+        CRIADO, ALTERADO, EXCLUIDO
+    }
+
+    /** Tipo da alteração. */
+    private final Tipo tipo;
+
+    /** IDs dos Chamados afetados. */
+    private final Collection<Integer> ids;
+
+    /** Estado anterior dos Chamados excluídos (vazio nos demais tipos). */
+    private final List<ChamadoDTO> excluidos;
+
+    /** Estado anterior dos Chamados alterados, por ID (vazio nos demais tipos). */
+    private final Map<Integer, ChamadoEstado> anteriores;
+
+    private ChamadoEvento(Tipo tipo, Collection<Integer> ids, List<ChamadoDTO> excluidos,
+                          Map<Integer, ChamadoEstado> anteriores) {
+        this.tipo = tipo;
+        this.ids = ids;
+        this.excluidos = excluidos;
+        this.anteriores = anteriores;
+    }
+
+    /**
+     * Cria o evento de Chamados criados.
+     * @param ids Os IDs criados.
+     * @return O evento.
+     */
+    public static ChamadoEvento criados(Collection<Integer> ids) {
+        return new ChamadoEvento(Tipo.CRIADO, ids, Collections.emptyList(), Collections.emptyMap());
+    }
+
+    /**
+     * Cria o evento de Chamados alterados.
+     * @param ids Os IDs alterados (IDs inexistentes são ignorados pelo feed).
+     * @param antes O estado anterior dos Chamados cujo status, prioridade ou técnico pode
+     *        ter mudado; Chamados ausentes são tratados como inalterados nesses campos.
+     * @return O evento.
+     */
+    public static ChamadoEvento alterados(Collection<Integer> ids, List<ChamadoEstado> antes) {
+        Map<Integer, ChamadoEstado> anteriores = new HashMap<>(antes.size() * 2);
+        for (ChamadoEstado estado : antes) {
+            anteriores.put(estado.getId(), estado);
+        }
+        return new ChamadoEvento(Tipo.ALTERADO, ids, Collections.emptyList(), anteriores);
+    }
+
+    /**
+     * Cria o evento de um Chamado excluído.
+     * @param excluido O estado do Chamado antes da exclusão.
+     * @return O evento.
+     */
+    public static ChamadoEvento excluido(ChamadoDTO excluido) {
+        return new ChamadoEvento(Tipo.EXCLUIDO, Collections.singletonList(excluido.getId()),
+                Collections.singletonList(excluido), Collections.emptyMap());
+    }
+
+    /** Retorna o tipo da alteração. */
+    public Tipo getTipo() { return tipo; }
+
+    /** Retorna os IDs afetados. */
+    public Collection<Integer> getIds() { return ids; }
+
+    /** Retorna o estado anterior dos Chamados excluídos. */
+    public List<ChamadoDTO> getExcluidos() { return excluidos; }
+
+    /** Retorna o estado anterior dos Chamados alterados, por ID. */
+    public Map<Integer, ChamadoEstado> getAnteriores() { return anteriores; }
+}
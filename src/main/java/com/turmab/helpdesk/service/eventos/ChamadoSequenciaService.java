@@ -0,0 +1,147 @@
+package com.turmab.helpdesk.service.eventos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.turmab.helpdesk.domain.ContadorAlteracao;
+import com.turmab.helpdesk.repositories.ChamadoExcluidoRepository;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ContadorAlteracaoRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Atribui a sequência de alteração usada pela sincronização incremental
+ * ({@code GET /chamados/changes}).
+ *
+ * <p>
+ * Logo antes do commit de cada transação que publicou um {@link ChamadoEvento}, incrementa o
+ * {@link ContadorAlteracao} e grava o novo valor nos Chamados (ou nos registros de exclusão)
+ * afetados. O incremento bloqueia a linha do contador até o fim da transação; assim, as
+ * transações que alteram Chamados são confirmadas na ordem das suas sequências e o valor
+ * confirmado do contador é sempre um limite seguro: nenhuma transação ainda aberta pode
+ * gravar uma sequência menor ou igual a ele. O bloqueio dura só o incremento, a marcação
+ * e o commit, e não o restante da transação.
+ * </p>
+ *
+ * <p>
+ * Em troca, todas as transações que alteram Chamados disputam a mesma linha: a vazão de
+ * escrita da aplicação inteira fica limitada a cerca de uma transação por tempo de
+ * bloqueio (por exemplo, ~500 por segundo com 2 ms de marcação e commit), independente da
+ * quantidade de conexões. Uma sequência do banco eliminaria a disputa, mas sem a ordem de
+ * commit o leitor precisaria de uma margem de tempo e poderia perder alterações confirmadas
+ * fora de ordem. A disputa é medida por <code>chamados.sequencia.espera</code> (tempo até
+ * obter a linha do contador) e <code>chamados.sequencia.bloqueio</code> (tempo com a linha
+ * bloqueada, até o fim da transação); uma espera que cresce com a carga indica que o
+ * limite foi atingido.
+ * </p>
+ */
+@Service
+public class ChamadoSequenciaService {
+
+    /** Quantidade máxima de IDs em cada UPDATE de marcação. */
+    private static final int TAMANHO_PARTE = 1000;
+
+    @Autowired
+    private ContadorAlteracaoRepository contadorRepository;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ChamadoExcluidoRepository excluidoRepository;
+
+    /** Transação da criação do contador. */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /** Registro de métricas da aplicação. */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** Tempo de espera pelo bloqueio da linha do contador. */
+    private Timer espera;
+
+    /** Tempo em que a linha do contador fica bloqueada por uma transação. */
+    private Timer bloqueio;
+
+    /**
+     * Cria o contador, se ainda não existir, a partir da maior sequência já gravada.
+     */
+    @PostConstruct
+    public void init() {
+        espera = Timer.builder("chamados.sequencia.espera")
+                      .description("Espera pelo bloqueio do contador de alterações")
+                      .register(meterRegistry);
+        bloqueio = Timer.builder("chamados.sequencia.bloqueio")
+                        .description("Tempo com o contador de alterações bloqueado, até o fim da transação")
+                        .register(meterRegistry);
+        transactionTemplate.execute(status -> {
+            if (!contadorRepository.existsById(ContadorAlteracao.ID)) {
+                long inicial = Math.max(valor(chamadoRepository.findMaxSeqAlteracao()),
+                        valor(excluidoRepository.findMaxSeqAlteracao()));
+                contadorRepository.save(new ContadorAlteracao(ContadorAlteracao.ID, inicial));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Marca os Chamados do evento com a próxima sequência, dentro da transação que os alterou.
+     * @param evento O evento de criação, alteração ou exclusão.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void marcar(ChamadoEvento evento) {
+        if (evento.getIds().isEmpty()) {
+            return;
+        }
+        // Grava as alterações pendentes antes de bloquear o contador, para não segurá-lo no flush
+        em.flush();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int incrementados = contadorRepository.incrementa();
+        long bloqueado = System.nanoTime();
+        sample.stop(espera);
+        if (incrementados == 0) {
+            throw new IllegalStateException("Contador de alterações não encontrado");
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bloqueio.record(System.nanoTime() - bloqueado, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+        Long seq = contadorRepository.findValor();
+        List<Integer> ids = new ArrayList<>(evento.getIds());
+        for (int i = 0; i < ids.size(); i += TAMANHO_PARTE) {
+            List<Integer> parte = ids.subList(i, Math.min(i + TAMANHO_PARTE, ids.size()));
+            if (evento.getTipo() == ChamadoEvento.Tipo.EXCLUIDO) {
+                excluidoRepository.marcaAlteracao(parte, seq);
+            } else {
+                chamadoRepository.marcaAlteracao(parte, seq);
+            }
+        }
+    }
+
+    private static long valor(Long seq) {
+        return seq != null ? seq : 0L;
+    }
+}
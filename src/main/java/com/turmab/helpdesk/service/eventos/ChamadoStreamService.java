@@ -0,0 +1,320 @@
+package com.turmab.helpdesk.service.eventos;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.service.historico.ChamadoEstado;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Feed de alterações de Chamados via Server-Sent Events (<code>GET /chamados/stream</code>).
+ *
+ * <p>
+ * Recebe os {@link ChamadoEvento} depois do commit da transação que os publicou, consulta
+ * os Chamados afetados (uma consulta por evento, e só se houver assinantes) e entrega a cada
+ * assinante os que passam no seu filtro de técnico e status. Os eventos SSE se chamam
+ * <code>criado</code>, <code>alterado</code> e <code>excluido</code> e trazem o
+ * {@link ChamadoDTO} em JSON. Um Chamado alterado que passava no filtro do assinante e
+ * deixou de passar (mudou de status ou de técnico) gera o evento <code>removido</code>,
+ * com o estado atual, para que o cliente o retire da lista.
+ * </p>
+ *
+ * <p>
+ * Cada assinante tem uma fila limitada (<code>helpdesk.chamado.stream.buffer-size</code>).
+ * O pool de distribuição (<code>helpdesk.chamado.stream.threads</code>) só consulta os
+ * Chamados e enfileira, sem nunca escrever na conexão; a escrita é feita por um pool de
+ * envio separado, com no máximo uma thread por assinante de cada vez. Assim, um cliente
+ * lento (escrita bloqueada no TCP) ocupa só a sua thread de envio e não atrasa os demais
+ * nem a transação que gerou o evento. Quando a sua fila enche, o assinante é desconectado
+ * (métrica <code>chamados.stream.dropped</code>); ao reconectar, deve recarregar a lista
+ * antes de voltar a aplicar as alterações. Um comentário é enviado a cada
+ * <code>helpdesk.chamado.stream.heartbeat-seconds</code> para manter a conexão aberta em
+ * proxies e detectar clientes desconectados.
+ * </p>
+ */
+@Service
+public class ChamadoStreamService {
+
+    /** Quantidade máxima de IDs por consulta ao carregar os Chamados de um evento. */
+    private static final int IDS_POR_CONSULTA = 1000;
+
+    /** Evento enviado a quem acompanhava o Chamado e deixou de acompanhá-lo pelo filtro. */
+    private static final String REMOVIDO = "removido";
+
+    /** Repositório usado para carregar o estado atual dos Chamados alterados. */
+    @Autowired
+    private ChamadoRepository repository;
+
+    /** Registro de métricas da aplicação. */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** Quantidade máxima de eventos aguardando envio por assinante. */
+    @Value("${helpdesk.chamado.stream.buffer-size:256}")
+    private int bufferSize;
+
+    /** Duração máxima de uma conexão, em milissegundos; o navegador reconecta sozinho. */
+    @Value("${helpdesk.chamado.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    /** Intervalo entre os comentários de keep-alive, em segundos. */
+    @Value("${helpdesk.chamado.stream.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    /** Threads que consultam os Chamados e distribuem os eventos nas filas. */
+    @Value("${helpdesk.chamado.stream.threads:2}")
+    private int threads;
+
+    /** Assinantes conectados. */
+    private final List<Assinante> assinantes = new CopyOnWriteArrayList<>();
+
+    /** Pool de distribuição e keep-alive; nunca escreve nas conexões. */
+    private ScheduledExecutorService executor;
+
+    /**
+     * Pool de envio: escreve nas conexões e as encerra. Cresce conforme a quantidade de
+     * assinantes com envio em andamento, já que cada um usa no máximo uma thread.
+     */
+    private ExecutorService envio;
+
+    /** Assinantes desconectados por não acompanharem o ritmo dos eventos. */
+    private Counter descartados;
+
+    /**
+     * Cria o pool, agenda o keep-alive e registra as métricas.
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger contador = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(threads, r -> {
+            Thread t = new Thread(r, "chamado-stream-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        AtomicInteger contadorEnvio = new AtomicInteger();
+        envio = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "chamado-stream-envio-" + contadorEnvio.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        Gauge.builder("chamados.stream.subscribers", assinantes, List::size)
+             .description("Assinantes conectados ao feed de chamados")
+             .register(meterRegistry);
+        descartados = meterRegistry.counter("chamados.stream.dropped");
+    }
+
+    /**
+     * Encerra as conexões e o pool junto com a aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        envio.shutdownNow();
+        for (Assinante assinante : assinantes) {
+            assinante.emitter.complete();
+        }
+        assinantes.clear();
+    }
+
+    /**
+     * Registra um novo assinante.
+     *
+     * @param tecnico ID do técnico a acompanhar, ou {@code null} para todos
+     * @param status status a acompanhar, ou {@code null} para todos
+     * @return a conexão SSE do assinante
+     */
+    public SseEmitter assinar(Integer tecnico, Status status) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(emitter, tecnico, status, bufferSize);
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(() -> assinantes.remove(assinante));
+        emitter.onError(e -> assinantes.remove(assinante));
+        assinantes.add(assinante);
+        return emitter;
+    }
+
+    /**
+     * Recebe um evento depois do commit (ou imediatamente, se publicado fora de transação)
+     * e agenda a sua distribuição, sem ocupar a thread da requisição que o gerou.
+     *
+     * @param evento o evento publicado pelo serviço de Chamados
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChamadoEvento(ChamadoEvento evento) {
+        if (assinantes.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> distribuir(evento));
+        } catch (RejectedExecutionException e) {
+            // Aplicação encerrando
+        }
+    }
+
+    /**
+     * Carrega os Chamados do evento e os coloca na fila dos assinantes interessados: os que
+     * aceitam o estado atual recebem o evento, e os que só aceitavam o estado anterior
+     * recebem {@code removido}.
+     */
+    private void distribuir(ChamadoEvento evento) {
+        List<ChamadoDTO> chamados = evento.getTipo() == ChamadoEvento.Tipo.EXCLUIDO
+                ? evento.getExcluidos() : carregar(evento);
+        String nome = evento.getTipo().name().toLowerCase();
+        for (ChamadoDTO chamado : chamados) {
+            ChamadoEstado anterior = evento.getAnteriores().get(chamado.getId());
+            for (Assinante assinante : assinantes) {
+                if (assinante.aceita(chamado.getTecnico(), chamado.getStatus())) {
+                    enfileirar(assinante, SseEmitter.event().name(nome).data(chamado, MediaType.APPLICATION_JSON));
+                } else if (anterior != null && assinante.aceita(anterior.getTecnico(), anterior.getStatus())) {
+                    enfileirar(assinante, SseEmitter.event().name(REMOVIDO).data(chamado, MediaType.APPLICATION_JSON));
+                }
+            }
+        }
+    }
+
+    /**
+     * Consulta o estado atual dos Chamados do evento, em blocos de até
+     * {@value #IDS_POR_CONSULTA} IDs. IDs inexistentes são ignorados.
+     */
+    private List<ChamadoDTO> carregar(ChamadoEvento evento) {
+        List<Integer> ids = new ArrayList<>(evento.getIds());
+        List<ChamadoDTO> chamados = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i += IDS_POR_CONSULTA) {
+            chamados.addAll(repository.findAllDTOByIdIn(ids.subList(i, Math.min(i + IDS_POR_CONSULTA, ids.size()))));
+        }
+        return chamados;
+    }
+
+    /**
+     * Envia um comentário de keep-alive a todos os assinantes.
+     */
+    private void heartbeat() {
+        for (Assinante assinante : assinantes) {
+            enfileirar(assinante, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    /**
+     * Coloca um evento na fila do assinante, desconectando-o se a fila estiver cheia.
+     */
+    private void enfileirar(Assinante assinante, SseEmitter.SseEventBuilder evento) {
+        if (!assinante.fila.offer(evento)) {
+            descartar(assinante);
+            return;
+        }
+        agendarEnvio(assinante);
+    }
+
+    /**
+     * Agenda o esvaziamento da fila do assinante, se ainda não estiver agendado.
+     * Garante que um único envio por assinante ocorra de cada vez.
+     */
+    private void agendarEnvio(Assinante assinante) {
+        if (assinante.enviando.compareAndSet(false, true)) {
+            try {
+                envio.execute(() -> enviar(assinante));
+            } catch (RejectedExecutionException e) {
+                assinante.enviando.set(false);
+            }
+        }
+    }
+
+    /**
+     * Envia os eventos pendentes de um assinante.
+     */
+    private void enviar(Assinante assinante) {
+        try {
+            SseEmitter.SseEventBuilder evento;
+            while ((evento = assinante.fila.poll()) != null) {
+                assinante.emitter.send(evento);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado ou conexão já encerrada
+            assinantes.remove(assinante);
+            assinante.fila.clear();
+        } finally {
+            assinante.enviando.set(false);
+        }
+        // Evento enfileirado depois do último poll, enquanto o envio ainda estava marcado
+        if (!assinante.fila.isEmpty() && assinantes.contains(assinante)) {
+            agendarEnvio(assinante);
+        }
+    }
+
+    /**
+     * Desconecta um assinante que não acompanha o ritmo dos eventos.
+     * <p>
+     * O encerramento vai para o pool de envio: {@link SseEmitter#complete()} aguarda o
+     * {@code send} em andamento do mesmo assinante, que pode estar bloqueado no TCP.
+     * </p>
+     */
+    private void descartar(Assinante assinante) {
+        if (assinantes.remove(assinante)) {
+            descartados.increment();
+            assinante.fila.clear();
+            try {
+                envio.execute(assinante.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // Aplicação encerrando
+            }
+        }
+    }
+
+    /**
+     * Conexão de um assinante, com o seu filtro e a sua fila de envio.
+     */
+    private static final class Assinante {
+
+        private final SseEmitter emitter;
+
+        private final Integer tecnico;
+
+        private final Status status;
+
+        private final BlockingQueue<SseEmitter.SseEventBuilder> fila;
+
+        /** Indica que há um envio agendado ou em andamento para este assinante. */
+        private final AtomicBoolean enviando = new AtomicBoolean();
+
+        Assinante(SseEmitter emitter, Integer tecnico, Status status, int bufferSize) {
+            this.emitter = emitter;
+            this.tecnico = tecnico;
+            this.status = status;
+            this.fila = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean aceita(Integer tecnicoChamado, Status statusChamado) {
+            return (tecnico == null || tecnico.equals(tecnicoChamado))
+                    && (status == null || status == statusChamado);
+        }
+    }
+}
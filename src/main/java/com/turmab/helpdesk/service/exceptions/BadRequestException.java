@@ -0,0 +1,26 @@
+package com.turmab.helpdesk.service.exceptions;
+
+/**
+ * Lançada quando um valor informado pelo cliente é inválido (cursor, token de
+ * sincronização, código de enum, formato etc.) e deve ser respondido com 400.
+ * Erros internos, como um {@link IllegalArgumentException} de um bug, continuam
+ * resultando em 500.
+ * <p>
+ * Não estende {@link IllegalArgumentException} de propósito: lançada dentro de um
+ * repositório, seria convertida pelo Spring em {@code InvalidDataAccessApiUsageException}.
+ * </p>
+ */
+public class BadRequestException extends RuntimeException {
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public BadRequestException(String message) {
+		super(message);
+	}
+	
+	public BadRequestException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,20 @@
+package com.turmab.helpdesk.service.exceptions;
+
+/**
+ * Lançada quando a versão informada no cabeçalho {@code If-Match} não corresponde
+ * à versão atual do registro (resposta 412).
+ */
+public class PreconditionFailedException extends RuntimeException{
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public PreconditionFailedException(String message) {
+		super(message);
+	}
+	
+	public PreconditionFailedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -2,6 +2,7 @@ package com.turmab.helpdesk.service.exceptions;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -38,6 +39,48 @@ public class ResourceExceptionHandler {
 	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
 	    }
 	    
+	    @ExceptionHandler(PreconditionFailedException.class)
+	    public ResponseEntity<StandardError> preconditionFailedException(
+	            PreconditionFailedException ex, HttpServletRequest request) {
+
+	        StandardError error = new StandardError(
+	            System.currentTimeMillis(),
+	            HttpStatus.PRECONDITION_FAILED.value(),
+	            "Precondition Failed",
+	            ex.getMessage(),
+	            request.getRequestURI());
+
+	        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+	    }
+
+	    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	    public ResponseEntity<StandardError> optimisticLockingFailureException(
+	            ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+
+	        StandardError error = new StandardError(
+	            System.currentTimeMillis(),
+	            HttpStatus.CONFLICT.value(),
+	            "Conflict",
+	            "O registro foi alterado por outra requisição, recarregue e tente novamente",
+	            request.getRequestURI());
+
+	        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+	    }
+
+	    @ExceptionHandler(BadRequestException.class)
+	    public ResponseEntity<StandardError> badRequestException(
+	            BadRequestException ex, HttpServletRequest request) {
+
+	        StandardError error = new StandardError(
+	            System.currentTimeMillis(),
+	            HttpStatus.BAD_REQUEST.value(),
+	            "Bad Request",
+	            ex.getMessage(),
+	            request.getRequestURI());
+
+	        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+	    }
+
 	    @ExceptionHandler(MethodArgumentNotValidException.class)
 	    public ResponseEntity<StandardError> validationErrors(
 	            MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -0,0 +1,117 @@
+package com.turmab.helpdesk.service.historico;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.ChamadoHistorico;
+import com.turmab.helpdesk.domain.ChamadoHistorico.Campo;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+
+/**
+ * Valores dos campos de um Chamado acompanhados pelo histórico.
+ * <p>
+ * O {@link com.turmab.helpdesk.service.ChamadoService} guarda o estado antes e depois de cada
+ * alteração e gera, com {@link #diferencas(ChamadoEstado, Instant, Integer, List)}, um
+ * {@link ChamadoHistorico} por campo alterado. Também é usado como projeção
+ * ({@code SELECT new ...}) do {@link com.turmab.helpdesk.repositories.ChamadoRepository}
+ * nas alterações que não carregam a entidade.
+ * </p>
+ */
+public class ChamadoEstado {
+
+    private final Integer id;
+    private final Status status;
+    private final Prioridade prioridade;
+    private final Integer tecnico;
+    private final Integer versao;
+
+    /**
+     * Construtor sem versão, também usado pelas consultas de projeção.
+     * @param id ID do Chamado.
+     * @param status Status do Chamado.
+     * @param prioridade Prioridade do Chamado.
+     * @param tecnico ID do técnico responsável.
+     */
+    public ChamadoEstado(Integer id, Status status, Prioridade prioridade, Integer tecnico) {
+        this(id, status, prioridade, tecnico, null);
+    }
+
+    /**
+     * Construtor completo, usado pela consulta de projeção que também lê a versão.
+     * @param id ID do Chamado.
+     * @param status Status do Chamado.
+     * @param prioridade Prioridade do Chamado.
+     * @param tecnico ID do técnico responsável.
+     * @param versao Versão do Chamado no momento da leitura.
+     */
+    public ChamadoEstado(Integer id, Status status, Prioridade prioridade, Integer tecnico, Integer versao) {
+        this.id = id;
+        this.status = status;
+        this.prioridade = prioridade;
+        this.tecnico = tecnico;
+        this.versao = versao;
+    }
+
+    /**
+     * Retorna o estado atual de um Chamado carregado.
+     * @param chamado O Chamado.
+     * @return O estado dos campos acompanhados.
+     */
+    public static ChamadoEstado de(Chamado chamado) {
+        return new ChamadoEstado(chamado.getId(), chamado.getStatus(), chamado.getPrioridade(),
+                chamado.getTecnico() != null ? chamado.getTecnico().getId() : null);
+    }
+
+    /**
+     * Retorna uma cópia com os valores informados substituídos (campos {@code null} são mantidos).
+     * @param status Novo status ou {@code null}.
+     * @param prioridade Nova prioridade ou {@code null}.
+     * @param tecnico Novo técnico ou {@code null}.
+     * @return O novo estado.
+     */
+    public ChamadoEstado com(Status status, Prioridade prioridade, Integer tecnico) {
+        return new ChamadoEstado(id,
+                status != null ? status : this.status,
+                prioridade != null ? prioridade : this.prioridade,
+                tecnico != null ? tecnico : this.tecnico);
+    }
+
+    /**
+     * Acrescenta ao destino um registro de histórico para cada campo que difere do novo estado.
+     * @param depois O estado depois da alteração.
+     * @param quando Instante da alteração.
+     * @param usuario ID do usuário que fez a alteração ou {@code null}.
+     * @param destino Lista que recebe os registros.
+     */
+    public void diferencas(ChamadoEstado depois, Instant quando, Integer usuario, List<ChamadoHistorico> destino) {
+        if (status != depois.status) {
+            destino.add(new ChamadoHistorico(id, Campo.STATUS, nome(status), nome(depois.status), quando, usuario));
+        }
+        if (prioridade != depois.prioridade) {
+            destino.add(new ChamadoHistorico(id, Campo.PRIORIDADE, nome(prioridade), nome(depois.prioridade),
+                    quando, usuario));
+        }
+        if (!Objects.equals(tecnico, depois.tecnico)) {
+            destino.add(new ChamadoHistorico(id, Campo.TECNICO, Objects.toString(tecnico, null),
+                    Objects.toString(depois.tecnico, null), quando, usuario));
+        }
+    }
+
+    private static String nome(Enum<?> valor) {
+        return valor != null ? valor.name() : null;
+    }
+
+    /** Retorna o ID do Chamado. */
+    public Integer getId() { return id; }
+    /** Retorna o status do Chamado. */
+    public Status getStatus() { return status; }
+    /** Retorna a prioridade do Chamado. */
+    public Prioridade getPrioridade() { return prioridade; }
+    /** Retorna o ID do técnico responsável. */
+    public Integer getTecnico() { return tecnico; }
+    /** Retorna a versão lida do Chamado, ou {@code null} se não foi lida. */
+    public Integer getVersao() { return versao; }
+}
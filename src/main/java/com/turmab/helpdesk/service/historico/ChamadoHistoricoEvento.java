@@ -0,0 +1,27 @@
+package com.turmab.helpdesk.service.historico;
+
+import java.util.List;
+
+import com.turmab.helpdesk.domain.ChamadoHistorico;
+
+/**
+ * Evento publicado pelo {@link com.turmab.helpdesk.service.ChamadoService} com os registros
+ * de histórico de uma alteração. É entregue ao {@link ChamadoHistoricoWriter} só depois do
+ * commit, para que alterações desfeitas não entrem no histórico.
+ */
+public class ChamadoHistoricoEvento {
+
+    /** Registros de histórico, ainda não gravados. */
+    private final List<ChamadoHistorico> registros;
+
+    /**
+     * Cria o evento.
+     * @param registros Os registros de histórico.
+     */
+    public ChamadoHistoricoEvento(List<ChamadoHistorico> registros) {
+        this.registros = registros;
+    }
+
+    /** Retorna os registros de histórico. */
+    public List<ChamadoHistorico> getRegistros() { return registros; }
+}
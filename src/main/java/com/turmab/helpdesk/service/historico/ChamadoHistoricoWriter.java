@@ -0,0 +1,224 @@
+package com.turmab.helpdesk.service.historico;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.turmab.helpdesk.domain.ChamadoHistorico;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Grava o histórico de alterações de Chamados ({@link ChamadoHistorico}) em segundo plano.
+ *
+ * <p>
+ * Os registros chegam pelo {@link ChamadoHistoricoEvento}, depois do commit da alteração,
+ * e entram em uma fila limitada (<code>helpdesk.chamado.historico.queue-capacity</code>).
+ * Uma thread própria esvazia a fila e grava os registros na tabela
+ * <code>chamado_historico</code> em lotes JDBC de até
+ * <code>helpdesk.chamado.historico.batch-size</code> linhas: enquanto um lote é gravado,
+ * os registros seguintes se acumulam e vão juntos no próximo. Assim a alteração do Chamado
+ * não espera nenhum INSERT extra.
+ * </p>
+ *
+ * <p>
+ * Com a fila cheia, quem publica o evento espera até
+ * <code>helpdesk.chamado.historico.offer-timeout-ms</code> no total, por evento, e não por
+ * registro; esgotado o prazo, os registros restantes do evento só entram se houver espaço
+ * imediato e os demais são descartados e contados em <code>chamados.historico.dropped</code>. Ao encerrar a aplicação,
+ * os registros ainda na fila são gravados antes de a fonte de dados ser fechada.
+ * </p>
+ *
+ * <p>
+ * Métricas expostas: <code>chamados.historico.queue</code> (tamanho da fila),
+ * <code>chamados.historico.flush</code> (tempo de gravação de cada lote),
+ * <code>chamados.historico.dropped</code> (registros descartados) e
+ * <code>chamados.historico.failed</code> (registros perdidos por falha na gravação).
+ * </p>
+ */
+@Component
+public class ChamadoHistoricoWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChamadoHistoricoWriter.class);
+
+    private static final String INSERT = "INSERT INTO chamado_historico "
+            + "(chamado_id, campo, valor_anterior, valor_novo, data_alteracao, usuario_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /** Intervalo, em milissegundos, em que a thread ociosa verifica o encerramento. */
+    private static final long POLL_MS = 1000;
+
+    /** Gravação dos lotes. */
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Registro de métricas da aplicação. */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** Quantidade máxima de registros aguardando gravação. */
+    @Value("${helpdesk.chamado.historico.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /** Quantidade máxima de registros por lote JDBC. */
+    @Value("${helpdesk.chamado.historico.batch-size:500}")
+    private int batchSize;
+
+    /** Tempo máximo, em milissegundos, de espera por espaço na fila cheia, por evento. */
+    @Value("${helpdesk.chamado.historico.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    /** Tempo máximo, em milissegundos, de espera pela thread no encerramento. */
+    @Value("${helpdesk.chamado.historico.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    /** Registros aguardando gravação. */
+    private BlockingQueue<ChamadoHistorico> fila;
+
+    /** Thread de gravação. */
+    private Thread thread;
+
+    /** Indica se a thread de gravação deve continuar. */
+    private volatile boolean ativo;
+
+    /** Tempo de gravação de cada lote. */
+    private Timer flush;
+
+    /** Registros descartados por fila cheia. */
+    private Counter descartados;
+
+    /** Registros perdidos por falha na gravação. */
+    private Counter falhas;
+
+    /**
+     * Cria a fila, inicia a thread de gravação e registra as métricas.
+     */
+    @PostConstruct
+    public void init() {
+        fila = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("chamados.historico.queue", fila, BlockingQueue::size)
+             .description("Registros de histórico aguardando gravação")
+             .register(meterRegistry);
+        flush = Timer.builder("chamados.historico.flush")
+                     .description("Tempo de gravação de um lote de histórico")
+                     .register(meterRegistry);
+        descartados = meterRegistry.counter("chamados.historico.dropped");
+        falhas = meterRegistry.counter("chamados.historico.failed");
+
+        ativo = true;
+        thread = new Thread(this::executar, "chamado-historico");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Para a thread de gravação e grava os registros que ainda estiverem na fila.
+     */
+    @PreDestroy
+    public void shutdown() {
+        ativo = false;
+        try {
+            thread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<ChamadoHistorico> lote = new ArrayList<>(batchSize);
+        while (fila.drainTo(lote, batchSize) > 0) {
+            gravar(lote);
+            lote.clear();
+        }
+    }
+
+    /**
+     * Enfileira os registros de uma alteração confirmada.
+     *
+     * @param evento registros de histórico da alteração
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void registrar(ChamadoHistoricoEvento evento) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        for (ChamadoHistorico registro : evento.getRegistros()) {
+            boolean aceito;
+            try {
+                // Prazo único para o evento: depois dele, só entra o que couber sem esperar
+                long restante = limite - System.nanoTime();
+                aceito = restante > 0 && !Thread.currentThread().isInterrupted()
+                        ? fila.offer(registro, restante, TimeUnit.NANOSECONDS)
+                        : fila.offer(registro);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                aceito = fila.offer(registro);
+            }
+            if (!aceito) {
+                descartados.increment();
+                LOG.warn("Fila de histórico cheia, registro descartado: chamado {}, campo {}",
+                        registro.getChamado(), registro.getCampo());
+            }
+        }
+    }
+
+    /**
+     * Laço da thread de gravação: aguarda o primeiro registro e grava, em um único lote,
+     * todos os que já estiverem na fila.
+     */
+    private void executar() {
+        List<ChamadoHistorico> lote = new ArrayList<>(batchSize);
+        while (ativo) {
+            try {
+                ChamadoHistorico primeiro = fila.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, batchSize - 1);
+                gravar(lote);
+                lote.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Grava um lote com uma única instrução JDBC em lote.
+     *
+     * @param lote registros a gravar
+     */
+    private void gravar(List<ChamadoHistorico> lote) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            jdbcTemplate.batchUpdate(INSERT, lote, lote.size(), (ps, registro) -> {
+                ps.setInt(1, registro.getChamado());
+                ps.setString(2, registro.getCampo().name());
+                ps.setString(3, registro.getValorAnterior());
+                ps.setString(4, registro.getValorNovo());
+                ps.setTimestamp(5, Timestamp.from(registro.getDataAlteracao()));
+                ps.setObject(6, registro.getUsuario(), Types.INTEGER);
+            });
+        } catch (DataAccessException e) {
+            falhas.increment(lote.size());
+            LOG.error("Falha ao gravar {} registros de histórico de chamados", lote.size(), e);
+        } finally {
+            sample.stop(flush);
+        }
+    }
+}
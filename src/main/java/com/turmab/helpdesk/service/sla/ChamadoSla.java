@@ -0,0 +1,59 @@
+package com.turmab.helpdesk.service.sla;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+
+/**
+ * Dados de um Chamado acompanhados pelo {@link SlaService}.
+ * <p>
+ * Usado como projeção ({@code SELECT new ...}) do
+ * {@link com.turmab.helpdesk.repositories.ChamadoRepository}, sem carregar as entidades.
+ * </p>
+ */
+public class ChamadoSla {
+
+    private final Integer id;
+    private final String titulo;
+    private final Prioridade prioridade;
+    private final Status status;
+    private final Integer tecnico;
+    private final Instant abertura;
+
+    /**
+     * Construtor usado pelas consultas de projeção.
+     * @param id ID do Chamado.
+     * @param titulo Título do Chamado.
+     * @param prioridade Prioridade do Chamado.
+     * @param status Status do Chamado.
+     * @param tecnico ID do técnico responsável.
+     * @param dataHoraAbertura Instante de abertura ou {@code null} em chamados anteriores ao campo.
+     * @param dataAbertura Data de abertura, usada (início do dia) quando não há o instante.
+     */
+    public ChamadoSla(Integer id, String titulo, Prioridade prioridade, Status status, Integer tecnico,
+                      Instant dataHoraAbertura, LocalDate dataAbertura) {
+        this.id = id;
+        this.titulo = titulo;
+        this.prioridade = prioridade;
+        this.status = status;
+        this.tecnico = tecnico;
+        this.abertura = dataHoraAbertura != null ? dataHoraAbertura
+                : dataAbertura.atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+
+    /** Retorna o ID do Chamado. */
+    public Integer getId() { return id; }
+    /** Retorna o título do Chamado. */
+    public String getTitulo() { return titulo; }
+    /** Retorna a prioridade do Chamado. */
+    public Prioridade getPrioridade() { return prioridade; }
+    /** Retorna o status do Chamado. */
+    public Status getStatus() { return status; }
+    /** Retorna o ID do técnico responsável. */
+    public Integer getTecnico() { return tecnico; }
+    /** Retorna o instante de abertura, a partir do qual os prazos são contados. */
+    public Instant getAbertura() { return abertura; }
+}
@@ -0,0 +1,54 @@
+package com.turmab.helpdesk.service.sla;
+
+import java.time.Instant;
+
+/**
+ * Evento publicado pelo {@link SlaService} quando um prazo de SLA de um Chamado está perto
+ * de vencer ({@link Tipo#ALERTA}) ou venceu ({@link Tipo#VIOLACAO}).
+ */
+public class SlaEvento {
+
+    /** Prazos de SLA de um Chamado. */
+    public enum Prazo {
+        /** Prazo para o primeiro atendimento (saída do status ABERTO). */
+        RESPOSTA,
+        /** Prazo para o encerramento. */
+        RESOLUCAO
+    }
+
+    /** Tipo do evento. */
+    public enum Tipo {
+        /** Percentual de alerta do prazo atingido. */
+        ALERTA,
+        /** Prazo vencido. */
+        VIOLACAO
+    }
+
+    private final Integer chamado;
+    private final Prazo prazo;
+    private final Tipo tipo;
+    private final Instant vencimento;
+
+    /**
+     * Cria o evento.
+     * @param chamado ID do Chamado.
+     * @param prazo Prazo em questão.
+     * @param tipo Tipo do evento.
+     * @param vencimento Instante em que o prazo vence (ou venceu).
+     */
+    public SlaEvento(Integer chamado, Prazo prazo, Tipo tipo, Instant vencimento) {
+        this.chamado = chamado;
+        this.prazo = prazo;
+        this.tipo = tipo;
+        this.vencimento = vencimento;
+    }
+
+    /** Retorna o ID do Chamado. */
+    public Integer getChamado() { return chamado; }
+    /** Retorna o prazo em questão. */
+    public Prazo getPrazo() { return prazo; }
+    /** Retorna o tipo do evento. */
+    public Tipo getTipo() { return tipo; }
+    /** Retorna o instante de vencimento do prazo. */
+    public Instant getVencimento() { return vencimento; }
+}
@@ -0,0 +1,393 @@
+package com.turmab.helpdesk.service.sla;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.turmab.helpdesk.domain.dto.ChamadoSlaDTO;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.service.eventos.ChamadoEvento;
+import com.turmab.helpdesk.service.sla.SlaEvento.Prazo;
+import com.turmab.helpdesk.service.sla.SlaEvento.Tipo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Acompanhamento dos prazos de SLA dos Chamados abertos e em andamento.
+ *
+ * <p>
+ * Cada prioridade tem um prazo de resposta (enquanto o Chamado está ABERTO) e um de
+ * resolução (até ser ENCERRADO), contados a partir da abertura e configurados em minutos
+ * pelas propriedades <code>helpdesk.sla.resposta-minutos.*</code> e
+ * <code>helpdesk.sla.resolucao-minutos.*</code>. Ao atingir
+ * <code>helpdesk.sla.alerta-percentual</code> do prazo é publicado um {@link SlaEvento} de
+ * alerta e, ao vencer, um de violação.
+ * </p>
+ *
+ * <p>
+ * Em vez de varrer a tabela periodicamente, os prazos ficam em memória em uma
+ * {@link TimingWheel}, avançada a cada <code>helpdesk.sla.tick-ms</code> por uma thread
+ * própria: cada tick custa O(1), independentemente da quantidade de Chamados. Os Chamados
+ * em aberto são carregados na inicialização; depois disso, os {@link ChamadoEvento}
+ * publicados pelo {@link com.turmab.helpdesk.service.ChamadoService} reagendam os prazos
+ * dos Chamados criados, alterados ou excluídos. Prazos que já tinham vencido na
+ * inicialização não geram eventos.
+ * </p>
+ *
+ * <p>
+ * Métricas expostas: <code>chamados.sla.tracked</code> (Chamados acompanhados),
+ * <code>chamados.sla.alerts</code> e <code>chamados.sla.breaches</code>.
+ * </p>
+ */
+@Service
+public class SlaService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlaService.class);
+
+    /** Níveis da roda de tempo: com ticks de 1 s e 64 posições, alcança cerca de 190 dias. */
+    private static final int NIVEIS = 4;
+
+    /** Quantidade máxima de IDs por consulta ao recarregar os Chamados de um evento. */
+    private static final int IDS_POR_CONSULTA = 1000;
+
+    /** Repositório usado para carregar os Chamados acompanhados. */
+    @Autowired
+    private ChamadoRepository repository;
+
+    /** Publica os eventos de alerta e violação. */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /** Registro de métricas da aplicação. */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${helpdesk.sla.resposta-minutos.baixa:1440}")
+    private long respostaBaixa;
+
+    @Value("${helpdesk.sla.resposta-minutos.media:480}")
+    private long respostaMedia;
+
+    @Value("${helpdesk.sla.resposta-minutos.alta:60}")
+    private long respostaAlta;
+
+    @Value("${helpdesk.sla.resolucao-minutos.baixa:7200}")
+    private long resolucaoBaixa;
+
+    @Value("${helpdesk.sla.resolucao-minutos.media:2880}")
+    private long resolucaoMedia;
+
+    @Value("${helpdesk.sla.resolucao-minutos.alta:480}")
+    private long resolucaoAlta;
+
+    /** Percentual do prazo a partir do qual o Chamado é considerado em risco. */
+    @Value("${helpdesk.sla.alerta-percentual:80}")
+    private int alertaPercentual;
+
+    /** Duração de um tick da roda de tempo, em milissegundos. */
+    @Value("${helpdesk.sla.tick-ms:1000}")
+    private long tickMs;
+
+    /** Posições por nível da roda de tempo (potência de 2). */
+    @Value("${helpdesk.sla.wheel-size:64}")
+    private int wheelSize;
+
+    /** Prazos de resposta por prioridade. */
+    private final Map<Prioridade, Duration> prazosResposta = new EnumMap<>(Prioridade.class);
+
+    /** Prazos de resolução por prioridade. */
+    private final Map<Prioridade, Duration> prazosResolucao = new EnumMap<>(Prioridade.class);
+
+    /** Chamados acompanhados, por ID. */
+    private final Map<Integer, Acompanhamento> acompanhados = new ConcurrentHashMap<>();
+
+    /** Prazos agendados. */
+    private TimingWheel<Disparo> roda;
+
+    /** Thread que avança a roda e aplica as alterações dos Chamados, em ordem. */
+    private ScheduledExecutorService executor;
+
+    private Counter alertas;
+
+    private Counter violacoes;
+
+    /**
+     * Cria a roda de tempo, inicia a thread e registra as métricas.
+     */
+    @PostConstruct
+    public void init() {
+        prazosResposta.put(Prioridade.BAIXA, Duration.ofMinutes(respostaBaixa));
+        prazosResposta.put(Prioridade.MEDIA, Duration.ofMinutes(respostaMedia));
+        prazosResposta.put(Prioridade.ALTA, Duration.ofMinutes(respostaAlta));
+        prazosResolucao.put(Prioridade.BAIXA, Duration.ofMinutes(resolucaoBaixa));
+        prazosResolucao.put(Prioridade.MEDIA, Duration.ofMinutes(resolucaoMedia));
+        prazosResolucao.put(Prioridade.ALTA, Duration.ofMinutes(resolucaoAlta));
+
+        roda = new TimingWheel<>(tickMs, wheelSize, NIVEIS, System.currentTimeMillis());
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sla");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("chamados.sla.tracked", acompanhados, Map::size)
+             .description("Chamados com prazos de SLA acompanhados")
+             .register(meterRegistry);
+        alertas = meterRegistry.counter("chamados.sla.alerts");
+        violacoes = meterRegistry.counter("chamados.sla.breaches");
+    }
+
+    /**
+     * Encerra a thread junto com a aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Carrega os Chamados abertos e em andamento depois da inicialização (e da carga inicial
+     * da base). A carga roda na thread do SLA, na mesma fila das alterações, para que uma
+     * alteração recebida durante a inicialização não seja sobrescrita pela carga; a
+     * inicialização aguarda o seu término.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        try {
+            executor.submit(this::carregarAbertos).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOG.error("Falha ao carregar os prazos de SLA", e.getCause());
+        }
+    }
+
+    private void carregarAbertos() {
+        long inicio = System.currentTimeMillis();
+        List<ChamadoSla> abertos = repository.findSlaByStatusIn(EnumSet.of(Status.ABERTO, Status.ANDAMENTO));
+        for (ChamadoSla chamado : abertos) {
+            acompanhados.computeIfAbsent(chamado.getId(), id -> agendar(chamado, null, false));
+        }
+        LOG.info("SLA: {} chamados acompanhados, {} prazos agendados em {} ms",
+                acompanhados.size(), roda.size(), System.currentTimeMillis() - inicio);
+    }
+
+    /**
+     * Reagenda os prazos dos Chamados de uma alteração confirmada. A consulta e o
+     * reagendamento são feitos na thread do SLA, fora da requisição.
+     *
+     * @param evento Chamados criados, alterados ou excluídos
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChamadoEvento(ChamadoEvento evento) {
+        Collection<Integer> ids = evento.getIds();
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Integer> copia = new ArrayList<>(ids);
+        boolean excluidos = evento.getTipo() == ChamadoEvento.Tipo.EXCLUIDO;
+        executor.execute(() -> atualizar(copia, excluidos));
+    }
+
+    /**
+     * Retorna os Chamados com algum prazo em alerta ou vencido, do vencimento mais próximo
+     * (ou mais atrasado) para o mais distante.
+     *
+     * @param tecnico ID do técnico, ou {@code null} para todos
+     * @return os Chamados em risco
+     */
+    public List<ChamadoSlaDTO> findEmRisco(Integer tecnico) {
+        Instant agora = Instant.now();
+        List<ChamadoSlaDTO> emRisco = new ArrayList<>();
+        for (Acompanhamento a : acompanhados.values()) {
+            ChamadoSla c = a.chamado;
+            if (tecnico != null && !tecnico.equals(c.getTecnico())) {
+                continue;
+            }
+            Prazo prazo = null;
+            Instant vencimento = null;
+            if (a.vencimentoResposta != null && !agora.isBefore(a.alertaResposta)) {
+                prazo = Prazo.RESPOSTA;
+                vencimento = a.vencimentoResposta;
+            }
+            if (!agora.isBefore(a.alertaResolucao)
+                    && (vencimento == null || a.vencimentoResolucao.isBefore(vencimento))) {
+                prazo = Prazo.RESOLUCAO;
+                vencimento = a.vencimentoResolucao;
+            }
+            if (prazo != null) {
+                emRisco.add(new ChamadoSlaDTO(c.getId(), c.getTitulo(), c.getPrioridade(), c.getStatus(),
+                        c.getTecnico(), prazo, vencimento, !agora.isBefore(vencimento)));
+            }
+        }
+        emRisco.sort(Comparator.comparing(ChamadoSlaDTO::getVencimento));
+        return emRisco;
+    }
+
+    /**
+     * Avança a roda de tempo e publica os eventos dos prazos atingidos.
+     */
+    private void tick() {
+        try {
+            for (Disparo disparo : roda.advance(System.currentTimeMillis())) {
+                Acompanhamento a = disparo.acompanhamento;
+                // Ignora disparos de um acompanhamento substituído enquanto o tick era processado
+                if (acompanhados.get(a.chamado.getId()) != a) {
+                    continue;
+                }
+                if (disparo.tipo == Tipo.ALERTA) {
+                    alertas.increment();
+                } else {
+                    violacoes.increment();
+                    LOG.warn("SLA de {} violado: chamado {}, prioridade {}, vencimento {}",
+                            disparo.prazo, a.chamado.getId(), a.chamado.getPrioridade(), disparo.vencimento);
+                }
+                eventPublisher.publishEvent(new SlaEvento(a.chamado.getId(), disparo.prazo, disparo.tipo,
+                        disparo.vencimento));
+            }
+        } catch (RuntimeException e) {
+            // Uma exceção cancelaria as próximas execuções agendadas
+            LOG.error("Falha ao processar os prazos de SLA", e);
+        }
+    }
+
+    /**
+     * Recarrega os Chamados e substitui os seus prazos; excluídos e encerrados deixam de
+     * ser acompanhados.
+     *
+     * @param ids IDs dos Chamados
+     * @param excluidos se os Chamados foram excluídos
+     */
+    private void atualizar(List<Integer> ids, boolean excluidos) {
+        try {
+            Map<Integer, ChamadoSla> atuais = new HashMap<>();
+            if (!excluidos) {
+                for (int i = 0; i < ids.size(); i += IDS_POR_CONSULTA) {
+                    for (ChamadoSla c : repository.findSlaByIdIn(ids.subList(i, Math.min(i + IDS_POR_CONSULTA, ids.size())))) {
+                        atuais.put(c.getId(), c);
+                    }
+                }
+            }
+            for (Integer id : ids) {
+                ChamadoSla chamado = atuais.get(id);
+                if (chamado == null || chamado.getStatus() == Status.ENCERRADO) {
+                    cancelar(acompanhados.remove(id));
+                } else {
+                    acompanhados.compute(id, (k, antigo) -> {
+                        cancelar(antigo);
+                        return agendar(chamado, antigo, true);
+                    });
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Falha ao atualizar os prazos de SLA dos chamados {}", ids, e);
+        }
+    }
+
+    /**
+     * Calcula os prazos de um Chamado e agenda os alertas e violações.
+     * <p>
+     * Momentos já passados só são agendados (e disparam no próximo tick) se
+     * {@code notificarVencidos} for verdadeiro e o vencimento for diferente do já
+     * acompanhado, para que uma alteração que não muda o prazo não repita o evento.
+     * O alerta não é agendado se o prazo já tiver vencido.
+     * </p>
+     */
+    private Acompanhamento agendar(ChamadoSla chamado, Acompanhamento antigo, boolean notificarVencidos) {
+        Acompanhamento a = new Acompanhamento(chamado);
+        Instant agora = Instant.now();
+        if (chamado.getStatus() == Status.ABERTO) {
+            Duration duracao = prazosResposta.get(chamado.getPrioridade());
+            a.vencimentoResposta = chamado.getAbertura().plus(duracao);
+            a.alertaResposta = chamado.getAbertura().plus(duracao.multipliedBy(alertaPercentual).dividedBy(100));
+            boolean notificar = notificarVencidos
+                    && (antigo == null || !a.vencimentoResposta.equals(antigo.vencimentoResposta));
+            programar(a, Prazo.RESPOSTA, a.alertaResposta, a.vencimentoResposta, agora, notificar);
+        }
+        Duration duracao = prazosResolucao.get(chamado.getPrioridade());
+        a.vencimentoResolucao = chamado.getAbertura().plus(duracao);
+        a.alertaResolucao = chamado.getAbertura().plus(duracao.multipliedBy(alertaPercentual).dividedBy(100));
+        boolean notificar = notificarVencidos
+                && (antigo == null || !a.vencimentoResolucao.equals(antigo.vencimentoResolucao));
+        programar(a, Prazo.RESOLUCAO, a.alertaResolucao, a.vencimentoResolucao, agora, notificar);
+        return a;
+    }
+
+    private void programar(Acompanhamento a, Prazo prazo, Instant alerta, Instant vencimento, Instant agora,
+                           boolean notificarVencidos) {
+        if (vencimento.isAfter(agora) && (alerta.isAfter(agora) || notificarVencidos)) {
+            a.disparos.add(roda.schedule(new Disparo(a, prazo, Tipo.ALERTA, vencimento), alerta.toEpochMilli()));
+        }
+        if (vencimento.isAfter(agora) || notificarVencidos) {
+            a.disparos.add(roda.schedule(new Disparo(a, prazo, Tipo.VIOLACAO, vencimento), vencimento.toEpochMilli()));
+        }
+    }
+
+    private void cancelar(Acompanhamento a) {
+        if (a != null) {
+            for (TimingWheel.Timeout<Disparo> disparo : a.disparos) {
+                roda.cancel(disparo);
+            }
+        }
+    }
+
+    /** Prazos calculados e disparos agendados de um Chamado. */
+    private static final class Acompanhamento {
+        private final ChamadoSla chamado;
+        private final List<TimingWheel.Timeout<Disparo>> disparos = new ArrayList<>(4);
+        /** Vencimento e alerta do prazo de resposta ({@code null} se o Chamado não estiver ABERTO). */
+        private Instant vencimentoResposta;
+        private Instant alertaResposta;
+        private Instant vencimentoResolucao;
+        private Instant alertaResolucao;
+
+        private Acompanhamento(ChamadoSla chamado) {
+            this.chamado = chamado;
+        }
+    }
+
+    /** Momento agendado na roda de tempo. */
+    private static final class Disparo {
+        private final Acompanhamento acompanhamento;
+        private final Prazo prazo;
+        private final Tipo tipo;
+        private final Instant vencimento;
+
+        private Disparo(Acompanhamento acompanhamento, Prazo prazo, Tipo tipo, Instant vencimento) {
+            this.acompanhamento = acompanhamento;
+            this.prazo = prazo;
+            this.tipo = tipo;
+            this.vencimento = vencimento;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.turmab.helpdesk.service.sla;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda de tempo hierárquica (hierarchical timing wheel) para agendar um grande número de
+ * prazos com custo constante.
+ *
+ * <p>
+ * O tempo é dividido em ticks de <code>tickMs</code> milissegundos. O nível 0 tem
+ * <code>wheelSize</code> posições de um tick; cada nível seguinte tem o mesmo número de
+ * posições, cada uma cobrindo uma volta inteira do nível anterior. Um prazo é guardado no
+ * nível mais baixo que o alcança e, quando o tempo chega à sua posição em um nível superior,
+ * desce para o nível de baixo ("cascata"), até vencer no nível 0.
+ * </p>
+ *
+ * <p>
+ * Agendar e cancelar custam O(1) (inclusão e remoção em lista duplamente encadeada), e
+ * cada tick processa apenas a posição atual de cada nível, independentemente da quantidade
+ * de prazos agendados. Prazos além do alcance do nível mais alto são guardados na última
+ * posição alcançável e reagendados quando ela é processada.
+ * </p>
+ *
+ * <p>
+ * Os métodos são sincronizados; os itens vencidos são devolvidos por {@link #advance(long)}
+ * para serem tratados fora do bloqueio.
+ * </p>
+ *
+ * @param <T> tipo do item associado a cada prazo
+ */
+public class TimingWheel<T> {
+
+    /**
+     * Prazo agendado na roda.
+     *
+     * @param <T> tipo do item associado
+     */
+    public static final class Timeout<T> {
+        private final long deadlineMs;
+        private final T item;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private Bucket<T> bucket;
+
+        private Timeout(long deadlineMs, T item) {
+            this.deadlineMs = deadlineMs;
+            this.item = item;
+        }
+
+        /** Retorna o prazo, em milissegundos desde a época. */
+        public long getDeadlineMs() { return deadlineMs; }
+
+        /** Retorna o item associado ao prazo. */
+        public T getItem() { return item; }
+    }
+
+    /** Posição da roda: lista duplamente encadeada de prazos. */
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /** Esvazia a posição, devolvendo o primeiro prazo da lista que ela continha. */
+        Timeout<T> clear() {
+            Timeout<T> primeiro = head;
+            head = null;
+            return primeiro;
+        }
+    }
+
+    private final long tickMs;
+    private final int bits;
+    private final int mask;
+    private final Bucket<T>[][] levels;
+
+    /** Último tick processado (milissegundos desde a época divididos por {@code tickMs}). */
+    private long currentTick;
+
+    /** Quantidade de prazos agendados. */
+    private int size;
+
+    /**
+     * Cria a roda.
+     *
+     * @param tickMs duração de um tick, em milissegundos
+     * @param wheelSize posições por nível (potência de 2)
+     * @param levelCount quantidade de níveis
+     * @param startMs instante inicial, em milissegundos desde a época
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2 || Integer.bitCount(wheelSize) != 1 || levelCount < 1
+                || Integer.numberOfTrailingZeros(wheelSize) * levelCount > 62) {
+            throw new IllegalArgumentException("Configuração inválida da roda de tempo");
+        }
+        this.tickMs = tickMs;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = new Bucket[levelCount][wheelSize];
+        for (Bucket<T>[] level : levels) {
+            for (int i = 0; i < wheelSize; i++) {
+                level[i] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Agenda um prazo. Prazos já vencidos vencem no próximo tick.
+     *
+     * @param item item associado
+     * @param deadlineMs prazo, em milissegundos desde a época
+     * @return o prazo agendado, usado para cancelá-lo
+     */
+    public synchronized Timeout<T> schedule(T item, long deadlineMs) {
+        Timeout<T> timeout = new Timeout<>(deadlineMs, item);
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancela um prazo ainda não vencido.
+     *
+     * @param timeout o prazo
+     * @return {@code true} se o prazo estava agendado
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Avança a roda até o instante informado e devolve os itens dos prazos vencidos.
+     *
+     * @param nowMs instante atual, em milissegundos desde a época
+     * @return os itens vencidos, em ordem de tick
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<T> vencidos = new ArrayList<>();
+        long target = nowMs / tickMs;
+        while (currentTick < target) {
+            currentTick++;
+            // Níveis superiores cujas posições começam neste tick descem, do mais alto ao mais baixo
+            int topo = 0;
+            while (topo + 1 < levels.length && (currentTick & ((1L << (bits * (topo + 1))) - 1)) == 0) {
+                topo++;
+            }
+            for (int level = topo; level >= 1; level--) {
+                Timeout<T> t = levels[level][slot(currentTick, level)].clear();
+                while (t != null) {
+                    Timeout<T> next = t.next;
+                    place(t, currentTick);
+                    t = next;
+                }
+            }
+            Timeout<T> t = levels[0][slot(currentTick, 0)].clear();
+            while (t != null) {
+                Timeout<T> next = t.next;
+                t.bucket = null;
+                t.prev = null;
+                t.next = null;
+                vencidos.add(t.item);
+                size--;
+                t = next;
+            }
+        }
+        return vencidos;
+    }
+
+    /**
+     * Retorna a quantidade de prazos agendados.
+     *
+     * @return prazos ainda não vencidos nem cancelados
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Guarda o prazo no nível mais baixo que o alcança a partir do tick atual.
+     *
+     * @param timeout o prazo
+     * @param minTick menor tick aceito (prazos vencidos vão para ele)
+     */
+    private void place(Timeout<T> timeout, long minTick) {
+        long tick = Math.max(timeout.deadlineMs / tickMs, minTick);
+        long diff = tick - currentTick;
+        int level = 0;
+        while (level + 1 < levels.length && diff >= (1L << (bits * (level + 1)))) {
+            level++;
+        }
+        long alcance = 1L << (bits * (level + 1));
+        if (diff >= alcance) {
+            // Além do nível mais alto: fica na última posição alcançável e é reagendado lá
+            tick = currentTick + alcance - 1;
+        }
+        levels[level][slot(tick, level)].add(timeout);
+    }
+
+    private int slot(long tick, int level) {
+        return (int) ((tick >>> (bits * level)) & mask);
+    }
+}
@@ -0,0 +1,16 @@
+-- Tabela CHAMADO_HISTORICO (histórico de alterações de status, prioridade e técnico).
+--
+-- Executar uma única vez em bancos criados com ddl-auto=update/none. Bancos criados com
+-- create/create-drop não precisam dela. A tabela é somente de inclusão.
+
+CREATE TABLE chamado_historico (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    chamado_id INT NOT NULL,
+    campo VARCHAR(20) NOT NULL,
+    valor_anterior VARCHAR(255),
+    valor_novo VARCHAR(255),
+    data_alteracao DATETIME(6) NOT NULL,
+    usuario_id INT
+);
+
+CREATE INDEX idx_chamado_historico_chamado ON chamado_historico (chamado_id, data_alteracao);
@@ -0,0 +1,13 @@
+-- Índices de filtro da listagem de chamados, alinhados à paginação por keyset
+-- (WHERE ... AND id > ? ORDER BY id).
+--
+-- Executar uma única vez em bancos criados com ddl-auto=update/none. Bancos criados
+-- com create/create-drop não precisam dela.
+
+CREATE INDEX idx_chamado_status_prioridade ON chamado (status, prioridade, id);
+
+CREATE INDEX idx_chamado_abertura ON chamado (data_abertura, id);
+
+CREATE INDEX idx_chamado_tecnico ON chamado (tecnico_id, id);
+
+CREATE INDEX idx_chamado_cliente ON chamado (cliente_id, id);
@@ -0,0 +1,19 @@
+-- Sequência chamado_seq dos IDs de Chamado (antes gerados por AUTO_INCREMENT/IDENTITY).
+--
+-- O MySQL não tem sequências: o Hibernate emula chamado_seq com uma tabela de uma linha
+-- (coluna next_val). Criada pelo ddl-auto=update, ela começaria em 1 e os INSERTs
+-- colidiriam com os IDs existentes. Executar uma única vez, com a aplicação parada,
+-- antes de subir a versão com a sequência. Bancos criados com create/create-drop não
+-- precisam dela.
+--
+-- Com allocationSize = 50 (otimizador pooled), o primeiro bloco reservado começa em até
+-- 49 abaixo do valor lido; por isso o valor inicial é MAX(id) + 1 + 50.
+
+CREATE TABLE IF NOT EXISTS chamado_seq (
+    next_val BIGINT
+);
+
+DELETE FROM chamado_seq;
+
+INSERT INTO chamado_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 + 50 FROM chamado;
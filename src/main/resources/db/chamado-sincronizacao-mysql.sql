@@ -0,0 +1,35 @@
+-- Coluna CHAMADO.DATA_ATUALIZACAO, sequência de alteração e tabelas CHAMADO_EXCLUIDO e
+-- CONTADOR_ALTERACAO da sincronização incremental (GET /chamados/changes).
+--
+-- Executar uma única vez, antes de subir a versão com as colunas, em bancos criados com
+-- ddl-auto=update/none. Bancos criados com create/create-drop não precisam dela.
+-- Os chamados existentes ficam com a sequência 0 e são entregues na primeira
+-- sincronização de cada cliente.
+
+ALTER TABLE chamado ADD COLUMN data_atualizacao DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+ALTER TABLE chamado ALTER COLUMN data_atualizacao DROP DEFAULT;
+
+CREATE INDEX idx_chamado_atualizacao ON chamado (data_atualizacao, id);
+
+ALTER TABLE chamado ADD COLUMN seq_alteracao BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_chamado_alteracao ON chamado (seq_alteracao, id);
+
+CREATE TABLE chamado_excluido (
+    id INT NOT NULL PRIMARY KEY,
+    data_exclusao DATETIME(6) NOT NULL,
+    seq_alteracao BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_chamado_excluido_alteracao ON chamado_excluido (seq_alteracao, id);
+
+-- Linha única: o incremento bloqueia a linha e ordena os commits que alteram chamados
+-- (a vazão de escrita fica limitada por esse bloqueio; ver chamados.sequencia.espera e
+-- chamados.sequencia.bloqueio)
+CREATE TABLE contador_alteracao (
+    id INT NOT NULL PRIMARY KEY,
+    valor BIGINT NOT NULL
+);
+
+INSERT INTO contador_alteracao (id, valor) VALUES (1, 0);
@@ -0,0 +1,7 @@
+-- Coluna CHAMADO.DATA_HORA_ABERTURA (início da contagem dos prazos de SLA).
+--
+-- Executar uma única vez em bancos criados com ddl-auto=update/none. Bancos criados com
+-- create/create-drop não precisam dela. Enquanto vazia, os prazos são contados a partir do
+-- início do dia de abertura.
+
+ALTER TABLE chamado ADD COLUMN data_hora_abertura DATETIME(6) NULL;
@@ -0,0 +1,14 @@
+-- Migração dos perfis da tabela PERFIS (element collection) para a coluna PESSOA.PERFIS
+-- (máscara de bits: bit 1 << codigo para cada perfil; ADMIN=1, CLIENTE=2, TECNICO=4).
+--
+-- Executar uma única vez, antes de subir a versão com a coluna, em bancos criados com
+-- ddl-auto=update/none. Bancos criados com create/create-drop não precisam dela.
+
+ALTER TABLE pessoa ADD COLUMN perfis INT NOT NULL DEFAULT 0;
+
+UPDATE pessoa p
+   SET p.perfis = (SELECT COALESCE(BIT_OR(1 << pf.perfis), 0)
+                     FROM perfis pf
+                    WHERE pf.pessoa_id = p.id);
+
+DROP TABLE perfis;
@@ -0,0 +1,19 @@
+-- Coluna VERSION de CHAMADO e PESSOA (controle de concorrência otimista / ETag).
+--
+-- Executar uma única vez, antes de subir a versão com a coluna, em bancos criados com
+-- ddl-auto=update/none. Bancos criados com create/create-drop não precisam dela.
+-- Os registros existentes começam na versão 0: com a coluna nula, o Hibernate não
+-- consegue incrementar a versão na primeira alteração e o UPDATE em massa
+-- (version = version + 1) mantém o valor nulo.
+
+ALTER TABLE chamado ADD COLUMN version INT NOT NULL DEFAULT 0;
+
+ALTER TABLE pessoa ADD COLUMN version INT NOT NULL DEFAULT 0;
+
+-- Se a coluna já tiver sido criada como anulável pelo ddl-auto=update, usar no lugar
+-- dos comandos acima:
+--
+-- UPDATE chamado SET version = 0 WHERE version IS NULL;
+-- ALTER TABLE chamado MODIFY COLUMN version INT NOT NULL DEFAULT 0;
+-- UPDATE pessoa SET version = 0 WHERE version IS NULL;
+-- ALTER TABLE pessoa MODIFY COLUMN version INT NOT NULL DEFAULT 0;
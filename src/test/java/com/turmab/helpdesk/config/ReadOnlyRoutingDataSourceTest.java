@@ -0,0 +1,39 @@
+package com.turmab.helpdesk.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Escolha entre banco principal e réplica pela transação corrente.
+ */
+class ReadOnlyRoutingDataSourceTest {
+
+	private final ReadOnlyRoutingDataSource dataSource = new ReadOnlyRoutingDataSource();
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void transacaoSomenteLeituraVaiParaAReplica() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertEquals(ReadOnlyRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void transacaoDeEscritaVaiParaOPrincipal() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+		assertEquals(ReadOnlyRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void semTransacaoVaiParaOPrincipal() {
+		assertEquals(ReadOnlyRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+	}
+}
@@ -0,0 +1,62 @@
+package com.turmab.helpdesk.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.turmab.helpdesk.domain.enums.Perfil;
+
+/**
+ * Perfis gravados como máscara de bits na coluna PERFIS de PESSOA.
+ */
+class PessoaPerfisTest {
+
+	@Test
+	void mascaraIdaEVoltaParaTodasAsCombinacoes() {
+		for (int mascara = 0; mascara < 8; mascara++) {
+			assertEquals(mascara, Perfil.toMascara(Perfil.fromMascara(mascara)));
+		}
+		assertEquals(EnumSet.of(Perfil.ADMIN, Perfil.TECNICO), Perfil.fromMascara(
+				Perfil.ADMIN.getMascara() | Perfil.TECNICO.getMascara()));
+	}
+
+	@Test
+	void mascaraForaDoIntervaloEhRejeitada() {
+		assertThrows(IllegalArgumentException.class, () -> Perfil.fromMascara(8));
+		assertThrows(IllegalArgumentException.class, () -> Perfil.fromMascara(-1));
+	}
+
+	@Test
+	void addPerfilAcumulaNaMascara() {
+		Tecnico tecnico = new Tecnico(null, "Teste", "00000000000", "teste@mail.com", "123");
+		tecnico.addPerfil(Perfil.ADMIN);
+
+		assertTrue(tecnico.hasPerfil(Perfil.ADMIN));
+		assertTrue(tecnico.hasPerfil(Perfil.TECNICO));
+		assertEquals(Perfil.toMascara(tecnico.getPerfis()), tecnico.perfis);
+	}
+
+	@Test
+	void setPerfisSubstituiOsPerfis() {
+		Cliente cliente = new Cliente(null, "Teste", "00000000000", "teste@mail.com", "123");
+		cliente.setPerfis(EnumSet.of(Perfil.ADMIN));
+
+		assertTrue(cliente.hasPerfil(Perfil.ADMIN));
+		assertFalse(cliente.hasPerfil(Perfil.CLIENTE));
+		assertEquals(Perfil.ADMIN.getMascara(), cliente.perfis);
+	}
+
+	@Test
+	void getPerfisDevolveOConjuntoCompartilhado() {
+		Cliente a = new Cliente(null, "A", "00000000000", "a@mail.com", "123");
+		Cliente b = new Cliente(null, "B", "11111111111", "b@mail.com", "123");
+
+		assertSame(a.getPerfis(), b.getPerfis());
+	}
+}
@@ -0,0 +1,98 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.TecnicoDTO;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+import com.turmab.helpdesk.service.TecnicoService;
+
+/**
+ * Criação com atribuição automática (POST /chamados?autoAtribuir=true): o Chamado vai para
+ * o técnico com a menor carga.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceAutoAtribuicaoTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private TecnicoService tecnicoService;
+
+	private Tecnico tecnico;
+
+	private Cliente cliente;
+
+	@BeforeEach
+	void setUp() {
+		tecnico = tecnicoRepository.findAll().get(0);
+		cliente = clienteRepository.findAll().get(0);
+	}
+
+	private Integer criarAutoAtribuido() throws Exception {
+		String location = mockMvc.perform(post("/chamados").param("autoAtribuir", "true")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"prioridade\":2,\"status\":0,\"titulo\":\"Automático\",\"observacoes\":\"sem técnico\","
+						+ "\"cliente\":" + cliente.getId() + "}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+		return Integer.valueOf(location.substring(location.lastIndexOf('/') + 1));
+	}
+
+	@Test
+	void semTecnicoAtribuiOTecnicoComMenorCarga() throws Exception {
+		// Garante carga no técnico da base; o técnico novo começa sem carga
+		mockMvc.perform(post("/chamados").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"prioridade\":0,\"status\":0,\"titulo\":\"Carga\",\"observacoes\":\"base\",\"tecnico\":"
+						+ tecnico.getId() + ",\"cliente\":" + cliente.getId() + "}"))
+				.andExpect(status().isCreated());
+		TecnicoDTO novo = new TecnicoDTO();
+		novo.setNome("Técnico Sem Carga");
+		novo.setCpf("52998224725");
+		novo.setEmail("sem.carga@mail.com");
+		novo.setSenha("123");
+		tecnicoService.create(novo);
+
+		Integer id = criarAutoAtribuido();
+
+		Integer atribuido = chamadoRepository.findDTOById(id).get().getTecnico();
+		assertNotNull(atribuido);
+		assertNotEquals(tecnico.getId(), atribuido);
+	}
+
+	@Test
+	void semTituloRetorna400() throws Exception {
+		mockMvc.perform(post("/chamados").param("autoAtribuir", "true").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"prioridade\":0,\"status\":0,\"observacoes\":\"sem título\",\"cliente\":"
+						+ cliente.getId() + "}"))
+				.andExpect(status().isBadRequest());
+	}
+}
@@ -0,0 +1,135 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * Alteração de status e reatribuição em massa ({@code /chamados/bulk-status} e
+ * {@code /chamados/bulk-assign}).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceBulkTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private Tecnico tecnico;
+
+	private Integer a;
+
+	private Integer b;
+
+	@BeforeEach
+	void setUp() {
+		tecnico = tecnicoRepository.findAll().get(0);
+		Cliente cliente = clienteRepository.findAll().get(0);
+		a = chamadoRepository.save(new Chamado(null, Prioridade.BAIXA, Status.ABERTO, "Bulk A", "bulk",
+				tecnico, cliente)).getId();
+		b = chamadoRepository.save(new Chamado(null, Prioridade.BAIXA, Status.ABERTO, "Bulk B", "bulk",
+				tecnico, cliente)).getId();
+	}
+
+	private ChamadoDTO chamado(Integer id) {
+		return chamadoRepository.findDTOById(id).get();
+	}
+
+	private String json(String ids, String campo, Object valor) {
+		return "{\"ids\":[" + ids + "],\"" + campo + "\":" + valor + "}";
+	}
+
+	@Test
+	void bulkStatusAlteraCadaChamadoUmaVez() throws Exception {
+		Integer versaoA = chamado(a).getVersion();
+
+		mockMvc.perform(post("/chamados/bulk-status").contentType(MediaType.APPLICATION_JSON)
+				.content(json(a + "," + b + "," + a, "status", 2)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.solicitados").value(2))
+				.andExpect(jsonPath("$.alterados").value(2));
+
+		assertEquals(Status.ENCERRADO, chamado(a).getStatus());
+		assertEquals(Status.ENCERRADO, chamado(b).getStatus());
+		assertEquals(versaoA + 1, chamado(a).getVersion());
+	}
+
+	@Test
+	void bulkStatusIgnoraIdsInexistentes() throws Exception {
+		mockMvc.perform(post("/chamados/bulk-status").contentType(MediaType.APPLICATION_JSON)
+				.content(json(a + ",-1", "status", 1)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.solicitados").value(2))
+				.andExpect(jsonPath("$.alterados").value(1));
+	}
+
+	@Test
+	void bulkStatusComCodigoInvalidoRetorna400() throws Exception {
+		mockMvc.perform(post("/chamados/bulk-status").contentType(MediaType.APPLICATION_JSON)
+				.content(json(String.valueOf(a), "status", 9)))
+				.andExpect(status().isBadRequest());
+
+		assertEquals(Status.ABERTO, chamado(a).getStatus());
+	}
+
+	@Test
+	void bulkStatusSemIdsRetorna400() throws Exception {
+		mockMvc.perform(post("/chamados/bulk-status").contentType(MediaType.APPLICATION_JSON)
+				.content(json("", "status", 1)))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void bulkAssignReatribuiOsChamados() throws Exception {
+		long sufixo = System.nanoTime() % 100000000L;
+		Tecnico outro = tecnicoRepository.save(new Tecnico(null, "Bulk " + sufixo, "9" + sufixo,
+				"bulk" + sufixo + "@mail.com", "123"));
+
+		mockMvc.perform(post("/chamados/bulk-assign").contentType(MediaType.APPLICATION_JSON)
+				.content(json(a + "," + b, "tecnico", outro.getId())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.alterados").value(2));
+
+		assertEquals(outro.getId(), chamado(a).getTecnico());
+		assertEquals(outro.getId(), chamado(b).getTecnico());
+	}
+
+	@Test
+	void bulkAssignComTecnicoInexistenteRetorna404() throws Exception {
+		mockMvc.perform(post("/chamados/bulk-assign").contentType(MediaType.APPLICATION_JSON)
+				.content(json(String.valueOf(a), "tecnico", -1)))
+				.andExpect(status().isNotFound());
+
+		assertEquals(tecnico.getId(), chamado(a).getTecnico());
+	}
+}
@@ -0,0 +1,193 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.ChamadoPatchDTO;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+import com.turmab.helpdesk.service.ChamadoService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Sincronização incremental (GET /chamados/changes): o token avança pela sequência de
+ * alteração atribuída no commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceChangesTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private ChamadoService chamadoService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private String corpo;
+
+	@BeforeEach
+	void setUp() {
+		Tecnico tecnico = tecnicoRepository.findAll().get(0);
+		Cliente cliente = clienteRepository.findAll().get(0);
+		corpo = "{\"prioridade\":0,\"status\":0,\"titulo\":\"Sincronização\",\"observacoes\":\"novo\",\"tecnico\":"
+				+ tecnico.getId() + ",\"cliente\":" + cliente.getId() + "}";
+	}
+
+	private JsonNode changes(String since) throws Exception {
+		String json = mockMvc.perform(get("/chamados/changes").param("since", since == null ? "" : since))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(json);
+	}
+
+	/** Consome todas as alterações existentes e retorna o token da posição atual. */
+	private String tokenAtual() throws Exception {
+		String token = null;
+		JsonNode resposta;
+		do {
+			resposta = changes(token);
+			token = resposta.get("next").asText();
+		} while (resposta.get("hasMore").asBoolean());
+		return token;
+	}
+
+	private List<Integer> ids(JsonNode resposta) {
+		List<Integer> ids = new ArrayList<>();
+		for (JsonNode alterado : resposta.get("alterados")) {
+			ids.add(alterado.get("id").asInt());
+		}
+		return ids;
+	}
+
+	private Integer criar() throws Exception {
+		String location = mockMvc.perform(post("/chamados").contentType(MediaType.APPLICATION_JSON).content(corpo))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+		return Integer.valueOf(location.substring(location.lastIndexOf('/') + 1));
+	}
+
+	@Test
+	void tokenInvalidoRetorna400() throws Exception {
+		mockMvc.perform(get("/chamados/changes").param("since", "invalido"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void criacaoAlteracaoEExclusaoAparecemDepoisDoToken() throws Exception {
+		String token = tokenAtual();
+
+		Integer id = criar();
+		JsonNode resposta = changes(token);
+		assertEquals(List.of(id), ids(resposta));
+		token = resposta.get("next").asText();
+
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":1}"))
+				.andExpect(status().isNoContent());
+		resposta = changes(token);
+		assertEquals(List.of(id), ids(resposta));
+		assertEquals(1, resposta.get("alterados").get(0).get("status").asInt());
+		token = resposta.get("next").asText();
+
+		mockMvc.perform(delete("/chamados/{id}", id)).andExpect(status().isNoContent());
+		resposta = changes(token);
+		assertTrue(ids(resposta).isEmpty());
+		assertEquals(id, resposta.get("excluidos").get(0).asInt());
+		token = resposta.get("next").asText();
+
+		resposta = changes(token);
+		assertTrue(ids(resposta).isEmpty());
+		assertEquals(0, resposta.get("excluidos").size());
+		assertEquals(token, resposta.get("next").asText());
+	}
+
+	@Test
+	void alteracoesConcorrentesRecebemSequenciasDistintas() throws Exception {
+		List<Integer> criados = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			criados.add(criar());
+		}
+		String token = tokenAtual();
+		Timer bloqueio = meterRegistry.get("chamados.sequencia.bloqueio").timer();
+		long antes = bloqueio.count();
+
+		ExecutorService executor = Executors.newFixedThreadPool(criados.size());
+		try {
+			List<Future<?>> alteracoes = new ArrayList<>();
+			for (Integer id : criados) {
+				ChamadoPatchDTO alteracao = new ChamadoPatchDTO();
+				alteracao.setTitulo("Concorrente " + id);
+				alteracoes.add(executor.submit(() -> chamadoService.patch(id, alteracao, null)));
+			}
+			for (Future<?> alteracao : alteracoes) {
+				alteracao.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Set<Long> sequencias = new HashSet<>();
+		for (Integer id : criados) {
+			sequencias.add(chamadoRepository.findById(id).get().getSeqAlteracao());
+		}
+		assertEquals(criados.size(), sequencias.size());
+		assertTrue(bloqueio.count() >= antes + criados.size());
+
+		List<Integer> alterados = new ArrayList<>();
+		JsonNode resposta;
+		do {
+			resposta = changes(token);
+			alterados.addAll(ids(resposta));
+			token = resposta.get("next").asText();
+		} while (resposta.get("hasMore").asBoolean());
+		assertEquals(new HashSet<>(criados), new HashSet<>(alterados));
+		assertEquals(criados.size(), alterados.size());
+	}
+}
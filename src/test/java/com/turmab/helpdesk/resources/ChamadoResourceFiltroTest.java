@@ -0,0 +1,135 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * Filtros de GET /chamados combinados com a paginação por cursor: todas as páginas
+ * respeitam os filtros e, juntas, trazem exatamente os Chamados que os atendem.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:filtrotest")
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceFiltroTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private void criar(int quantidade, int prioridade, int status) throws Exception {
+		String corpo = "{\"prioridade\":" + prioridade + ",\"status\":" + status
+				+ ",\"titulo\":\"Filtro\",\"observacoes\":\"novo\",\"tecnico\":"
+				+ tecnicoRepository.findAll().get(0).getId() + ",\"cliente\":"
+				+ clienteRepository.findAll().get(0).getId() + "}";
+		for (int i = 0; i < quantidade; i++) {
+			mockMvc.perform(post("/chamados").contentType(MediaType.APPLICATION_JSON).content(corpo))
+					.andExpect(status().isCreated());
+		}
+	}
+
+	/**
+	 * Segue o {@code nextCursor} com os mesmos filtros em todas as páginas e retorna os
+	 * Chamados na ordem recebida.
+	 * @param filtros Pares nome/valor dos parâmetros de filtro.
+	 */
+	private List<JsonNode> percorrer(int limit, String... filtros) throws Exception {
+		List<JsonNode> chamados = new ArrayList<>();
+		String cursor = null;
+		int paginas = 0;
+		do {
+			MockHttpServletRequestBuilder request = get("/chamados").param("limit", String.valueOf(limit));
+			for (int i = 0; i < filtros.length; i += 2) {
+				request.param(filtros[i], filtros[i + 1]);
+			}
+			if (cursor != null) {
+				request.param("after", cursor);
+			}
+			String json = mockMvc.perform(request)
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+			JsonNode pagina = objectMapper.readTree(json);
+			assertTrue(pagina.get("content").size() <= limit, json);
+			pagina.get("content").forEach(chamados::add);
+			cursor = pagina.hasNonNull("nextCursor") ? pagina.get("nextCursor").asText() : null;
+			assertTrue(++paginas < 100, "O cursor não avança");
+		} while (cursor != null);
+		return chamados;
+	}
+
+	private static List<Integer> ids(List<JsonNode> chamados) {
+		return chamados.stream().map(c -> c.get("id").asInt()).collect(Collectors.toList());
+	}
+
+	@Test
+	void filtrosCombinadosValemEmTodasAsPaginas() throws Exception {
+		criar(5, Prioridade.ALTA.getCodigo(), Status.ABERTO.getState());
+		criar(3, Prioridade.BAIXA.getCodigo(), Status.ABERTO.getState());
+		criar(2, Prioridade.ALTA.getCodigo(), Status.ANDAMENTO.getState());
+		Integer tecnico = tecnicoRepository.findAll().get(0).getId();
+		Integer cliente = clienteRepository.findAll().get(0).getId();
+		String hoje = LocalDate.now().toString();
+
+		List<Integer> esperados = chamadoRepository.findAll().stream()
+				.filter(c -> c.getStatus() == Status.ABERTO && c.getPrioridade() == Prioridade.ALTA)
+				.map(Chamado::getId)
+				.sorted()
+				.collect(Collectors.toList());
+		assertEquals(5, esperados.size());
+
+		List<JsonNode> chamados = percorrer(2,
+				"status", String.valueOf(Status.ABERTO.getState()),
+				"prioridade", String.valueOf(Prioridade.ALTA.getCodigo()),
+				"tecnico", tecnico.toString(),
+				"cliente", cliente.toString(),
+				"dataInicio", hoje,
+				"dataFim", hoje);
+
+		assertEquals(esperados, ids(chamados));
+	}
+
+	@Test
+	void filtroSemResultadosRetornaPaginaVaziaSemCursor() throws Exception {
+		String ontem = LocalDate.now().minusDays(1).toString();
+
+		List<JsonNode> chamados = percorrer(2, "dataFim", ontem, "status", String.valueOf(Status.ABERTO.getState()));
+
+		assertTrue(chamados.isEmpty(), chamados.toString());
+	}
+}
@@ -0,0 +1,103 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.PessoaRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * Histórico de alterações: o registro guarda o ID do usuário autenticado pelo token JWT.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ChamadoResourceHistoricoTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private PessoaRepository pessoaRepository;
+
+	private Integer novoChamado() {
+		return chamadoRepository.save(new Chamado(null, Prioridade.BAIXA, Status.ABERTO, "Histórico",
+				"usuário", tecnicoRepository.findAll().get(0), clienteRepository.findAll().get(0))).getId();
+	}
+
+	/** Aguarda a gravação em segundo plano e retorna a coluna informada dos registros do campo. */
+	private <T> List<T> historico(Integer id, String campo, String coluna, Class<T> tipo) throws InterruptedException {
+		List<T> valores = List.of();
+		for (int i = 0; i < 50 && valores.isEmpty(); i++) {
+			Thread.sleep(100);
+			valores = jdbcTemplate.queryForList("SELECT " + coluna
+					+ " FROM chamado_historico WHERE chamado_id = ? AND campo = ?", tipo, id, campo);
+		}
+		return valores;
+	}
+
+	@Test
+	@WithMockUser
+	void patchRegistraOsValoresAnteriorENovo() throws Exception {
+		Integer id = novoChamado();
+
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"prioridade\":2}"))
+				.andExpect(status().isNoContent());
+
+		assertEquals(List.of("BAIXA"), historico(id, "PRIORIDADE", "valor_anterior", String.class));
+		assertEquals(List.of("ALTA"), historico(id, "PRIORIDADE", "valor_novo", String.class));
+		assertEquals(Integer.valueOf(1), chamadoRepository.findDTOById(id).get().getVersion());
+	}
+
+	@Test
+	void registraOUsuarioQueAlterouOChamado() throws Exception {
+		Integer id = novoChamado();
+
+		String token = mockMvc.perform(post("/login").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"bill@mail.com\",\"senha\":\"123\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.AUTHORIZATION);
+
+		mockMvc.perform(patch("/chamados/{id}", id).header(HttpHeaders.AUTHORIZATION, token)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":1}"))
+				.andExpect(status().isNoContent());
+
+		List<Integer> usuarios = historico(id, "STATUS", "usuario_id", Integer.class);
+
+		assertFalse(usuarios.isEmpty());
+		assertEquals(pessoaRepository.findByEmail("bill@mail.com").get().getId(), usuarios.get(0));
+	}
+}
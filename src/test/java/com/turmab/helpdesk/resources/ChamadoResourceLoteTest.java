@@ -0,0 +1,89 @@
+package com.turmab.helpdesk.resources;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * Criação em lote: itens inválidos e itens recusados pelo banco são reportados
+ * individualmente, sem impedir a criação dos demais.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceLoteTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private Integer tecnico;
+
+	private Integer cliente;
+
+	@BeforeEach
+	void setUp() {
+		tecnico = tecnicoRepository.findAll().get(0).getId();
+		cliente = clienteRepository.findAll().get(0).getId();
+	}
+
+	private String item(int prioridade, String titulo, Integer cliente) {
+		return "{\"prioridade\":" + prioridade + ",\"status\":0,\"titulo\":\"" + titulo
+				+ "\",\"observacoes\":\"lote\",\"tecnico\":" + tecnico + ",\"cliente\":" + cliente + "}";
+	}
+
+	@Test
+	void rejeitaItensInvalidosECriaOsDemais() throws Exception {
+		String corpo = "[" + item(1, "valido", cliente) + "," + item(9, "prioridade", cliente) + ","
+				+ item(1, "cliente", -1) + "]";
+
+		mockMvc.perform(post("/chamados/batch").contentType(MediaType.APPLICATION_JSON).content(corpo))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.criados").value(1))
+				.andExpect(jsonPath("$.rejeitados").value(2))
+				.andExpect(jsonPath("$.itens[0].id", notNullValue()))
+				.andExpect(jsonPath("$.itens[1].id", nullValue()))
+				.andExpect(jsonPath("$.itens[1].erros", hasSize(1)))
+				.andExpect(jsonPath("$.itens[2].id", nullValue()));
+	}
+
+	@Test
+	void itemRecusadoPeloBancoNaoDesfazOsDemais() throws Exception {
+		// Passa na validação do DTO, mas excede o tamanho da coluna TITULO
+		StringBuilder longo = new StringBuilder();
+		for (int i = 0; i < 300; i++) {
+			longo.append('x');
+		}
+		String corpo = "[" + item(1, "antes", cliente) + "," + item(1, longo.toString(), cliente) + ","
+				+ item(1, "depois", cliente) + "]";
+
+		mockMvc.perform(post("/chamados/batch").contentType(MediaType.APPLICATION_JSON).content(corpo))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.criados").value(2))
+				.andExpect(jsonPath("$.rejeitados").value(1))
+				.andExpect(jsonPath("$.itens[0].id", notNullValue()))
+				.andExpect(jsonPath("$.itens[1].id", nullValue()))
+				.andExpect(jsonPath("$.itens[1].erros", hasSize(1)))
+				.andExpect(jsonPath("$.itens[2].id", notNullValue()));
+	}
+}
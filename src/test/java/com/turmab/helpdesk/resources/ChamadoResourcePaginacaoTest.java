@@ -0,0 +1,113 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * Paginação por cursor (GET /chamados?limit=N&after=cursor): as páginas seguidas pelo
+ * {@code nextCursor} cobrem todos os Chamados, sem lacunas nem repetições, e cursores
+ * inválidos são recusados com 400.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:paginacaotest")
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourcePaginacaoTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private void criar(int quantidade) throws Exception {
+		String corpo = "{\"prioridade\":0,\"status\":0,\"titulo\":\"Paginação\",\"observacoes\":\"novo\",\"tecnico\":"
+				+ tecnicoRepository.findAll().get(0).getId() + ",\"cliente\":"
+				+ clienteRepository.findAll().get(0).getId() + "}";
+		for (int i = 0; i < quantidade; i++) {
+			mockMvc.perform(post("/chamados").contentType(MediaType.APPLICATION_JSON).content(corpo))
+					.andExpect(status().isCreated());
+		}
+	}
+
+	/** Segue o {@code nextCursor} desde a primeira página e retorna os IDs na ordem recebida. */
+	private List<Integer> percorrer(int limit) throws Exception {
+		List<Integer> ids = new ArrayList<>();
+		String cursor = null;
+		int paginas = 0;
+		do {
+			MockHttpServletRequestBuilder request = get("/chamados").param("limit", String.valueOf(limit));
+			if (cursor != null) {
+				request.param("after", cursor);
+			}
+			String json = mockMvc.perform(request)
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+			JsonNode pagina = objectMapper.readTree(json);
+			assertTrue(pagina.get("content").size() <= limit, json);
+			for (JsonNode chamado : pagina.get("content")) {
+				ids.add(chamado.get("id").asInt());
+			}
+			cursor = pagina.hasNonNull("nextCursor") ? pagina.get("nextCursor").asText() : null;
+			assertTrue(++paginas < 100, "O cursor não avança");
+		} while (cursor != null);
+		return ids;
+	}
+
+	@Test
+	void cursorPercorreTodasAsPaginasSemLacunasNemRepeticoes() throws Exception {
+		// Todos os Chamados criados no mesmo dia têm a mesma data de abertura
+		criar(7);
+		List<Integer> esperados = chamadoRepository.findAll().stream()
+				.map(Chamado::getId)
+				.sorted()
+				.collect(Collectors.toList());
+		assertTrue(esperados.size() >= 8);
+
+		assertEquals(esperados, percorrer(3));
+	}
+
+	@Test
+	void cursorInvalidoRetorna400() throws Exception {
+		String naoNumerico = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+		mockMvc.perform(get("/chamados").param("limit", "2").param("after", "!!"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/chamados").param("limit", "2").param("after", naoNumerico))
+				.andExpect(status().isBadRequest());
+	}
+}
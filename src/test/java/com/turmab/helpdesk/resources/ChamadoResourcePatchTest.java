@@ -0,0 +1,115 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.dto.ChamadoDTO;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * PATCH /chamados/{id}: altera só os campos informados, com verificação opcional de versão.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourcePatchTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private Integer id;
+
+	@BeforeEach
+	void setUp() {
+		id = chamadoRepository.save(new Chamado(null, Prioridade.BAIXA, Status.ABERTO, "Patch", "original",
+				tecnicoRepository.findAll().get(0), clienteRepository.findAll().get(0))).getId();
+	}
+
+	private ChamadoDTO atual() {
+		return chamadoRepository.findDTOById(id).get();
+	}
+
+	@Test
+	void alteraSomenteOsCamposInformados() throws Exception {
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":1}"))
+				.andExpect(status().isNoContent());
+
+		ChamadoDTO chamado = atual();
+		assertEquals(Status.ANDAMENTO, chamado.getStatus());
+		assertEquals(Prioridade.BAIXA, chamado.getPrioridade());
+		assertEquals("Patch", chamado.getTitulo());
+		assertEquals("original", chamado.getObservacoes());
+	}
+
+	@Test
+	void comIfMatchAtualRetornaONovoETag() throws Exception {
+		Integer versao = atual().getVersion();
+
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, "\"" + versao + "\"")
+				.content("{\"titulo\":\"Novo título\"}"))
+				.andExpect(status().isNoContent())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + (versao + 1) + "\""));
+
+		assertEquals(versao + 1, atual().getVersion());
+	}
+
+	@Test
+	void comIfMatchDesatualizadoRetorna412() throws Exception {
+		Integer versao = atual().getVersion();
+
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, "\"" + (versao + 1) + "\"")
+				.content("{\"prioridade\":2}"))
+				.andExpect(status().isPreconditionFailed());
+
+		assertEquals(Prioridade.BAIXA, atual().getPrioridade());
+	}
+
+	@Test
+	void semCamposRetorna400() throws Exception {
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON).content("{}"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void codigoDeStatusInvalidoRetorna400() throws Exception {
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":9}"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void chamadoInexistenteRetorna404() throws Exception {
+		mockMvc.perform(patch("/chamados/{id}", -1).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":1}"))
+				.andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,67 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+
+/**
+ * Garante que as listagens de chamados sejam atendidas por uma única instrução SQL,
+ * sem consultas extras para técnico, cliente ou perfis (N+1).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceQueryCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	private Statistics statistics;
+
+	private Integer id;
+
+	@BeforeEach
+	void setUp() {
+		id = chamadoRepository.findAllDTO().get(0).getId();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findAllExecutaUmaInstrucao() throws Exception {
+		mockMvc.perform(get("/chamados")).andExpect(status().isOk());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void findByIdExecutaUmaInstrucao() throws Exception {
+		mockMvc.perform(get("/chamados/{id}", id)).andExpect(status().isOk());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void findPageExecutaUmaInstrucao() throws Exception {
+		mockMvc.perform(get("/chamados").param("limit", "10")).andExpect(status().isOk());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+}
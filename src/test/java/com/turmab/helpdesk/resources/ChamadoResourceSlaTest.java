@@ -0,0 +1,181 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+import com.turmab.helpdesk.service.sla.SlaEvento;
+
+/**
+ * Reagendamento dos prazos de SLA pelas alterações de Chamados. Os prazos de prioridade
+ * ALTA são zerados (vencem na abertura) e os demais ficam distantes, de modo que mudar a
+ * prioridade ou o status leva o Chamado para dentro ou para fora de GET /chamados/sla.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:slatest",
+		"helpdesk.sla.resposta-minutos.baixa=100000", "helpdesk.sla.resposta-minutos.media=100000",
+		"helpdesk.sla.resposta-minutos.alta=0", "helpdesk.sla.resolucao-minutos.baixa=100000",
+		"helpdesk.sla.resolucao-minutos.media=100000", "helpdesk.sla.resolucao-minutos.alta=0",
+		"helpdesk.sla.tick-ms=50" })
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceSlaTest {
+
+	/** Tempo máximo de espera pelo reagendamento, feito na thread do SLA. */
+	private static final long ESPERA_MS = 5000;
+
+	/** Guarda os eventos de SLA publicados. */
+	@TestConfiguration
+	static class EventosConfig {
+
+		@Bean
+		EventosSla eventosSla() {
+			return new EventosSla();
+		}
+	}
+
+	static class EventosSla {
+
+		private final List<SlaEvento> recebidos = new CopyOnWriteArrayList<>();
+
+		@EventListener
+		public void receber(SlaEvento evento) {
+			recebidos.add(evento);
+		}
+
+		boolean violado(Integer chamado) {
+			return recebidos.stream().anyMatch(e -> e.getChamado().equals(chamado)
+					&& e.getTipo() == SlaEvento.Tipo.VIOLACAO);
+		}
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private EventosSla eventos;
+
+	private Tecnico tecnico;
+
+	private Cliente cliente;
+
+	@BeforeEach
+	void setUp() {
+		tecnico = tecnicoRepository.findAll().get(0);
+		cliente = clienteRepository.findAll().get(0);
+	}
+
+	private Integer criar(int prioridade) throws Exception {
+		String location = mockMvc.perform(post("/chamados").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"prioridade\":" + prioridade + ",\"status\":0,\"titulo\":\"SLA\",\"observacoes\":\"prazo\","
+						+ "\"tecnico\":" + tecnico.getId() + ",\"cliente\":" + cliente.getId() + "}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+		return Integer.valueOf(location.substring(location.lastIndexOf('/') + 1));
+	}
+
+	private void alterar(Integer id, String corpo) throws Exception {
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON).content(corpo))
+				.andExpect(status().isNoContent());
+	}
+
+	private boolean emRisco(Integer id) throws Exception {
+		String json = mockMvc.perform(get("/chamados/sla"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		for (JsonNode chamado : objectMapper.readTree(json)) {
+			if (chamado.get("id").asInt() == id) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Aguarda até que o Chamado entre (ou saia) da lista de risco; retorna o estado final. */
+	private boolean aguardarRisco(Integer id, boolean esperado) throws Exception {
+		long limite = System.currentTimeMillis() + ESPERA_MS;
+		while (emRisco(id) != esperado && System.currentTimeMillis() < limite) {
+			Thread.sleep(20);
+		}
+		return emRisco(id);
+	}
+
+	@Test
+	void aumentarAPrioridadeReagendaEDisparaAViolacao() throws Exception {
+		Integer id = criar(0);
+		assertFalse(aguardarRisco(id, true));
+
+		alterar(id, "{\"prioridade\":2}");
+
+		assertTrue(aguardarRisco(id, true));
+		long limite = System.currentTimeMillis() + ESPERA_MS;
+		while (!eventos.violado(id) && System.currentTimeMillis() < limite) {
+			Thread.sleep(20);
+		}
+		assertTrue(eventos.violado(id));
+	}
+
+	@Test
+	void reduzirAPrioridadeTiraDoRisco() throws Exception {
+		Integer id = criar(2);
+		assertTrue(aguardarRisco(id, true));
+
+		alterar(id, "{\"prioridade\":0}");
+
+		assertFalse(aguardarRisco(id, false));
+	}
+
+	@Test
+	void encerrarDeixaDeAcompanhar() throws Exception {
+		Integer id = criar(2);
+		assertTrue(aguardarRisco(id, true));
+
+		alterar(id, "{\"status\":2}");
+
+		assertFalse(aguardarRisco(id, false));
+	}
+
+	@Test
+	void excluirDeixaDeAcompanhar() throws Exception {
+		Integer id = criar(2);
+		assertTrue(aguardarRisco(id, true));
+
+		mockMvc.perform(delete("/chamados/{id}", id)).andExpect(status().isNoContent());
+
+		assertFalse(aguardarRisco(id, false));
+	}
+}
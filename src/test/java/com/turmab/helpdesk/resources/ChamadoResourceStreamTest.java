@@ -0,0 +1,108 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.dto.TecnicoDTO;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+import com.turmab.helpdesk.service.TecnicoService;
+
+/**
+ * GET /chamados/stream: o assinante recebe só os Chamados do seu filtro e {@code removido}
+ * quando um Chamado que acompanhava sai do filtro.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:streamtest")
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceStreamTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private TecnicoService tecnicoService;
+
+	private Integer criar(Integer tecnico) throws Exception {
+		String corpo = "{\"prioridade\":0,\"status\":0,\"titulo\":\"Stream\",\"observacoes\":\"novo\",\"tecnico\":"
+				+ tecnico + ",\"cliente\":" + clienteRepository.findAll().get(0).getId() + "}";
+		String location = mockMvc.perform(post("/chamados").contentType(MediaType.APPLICATION_JSON).content(corpo))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+		return Integer.valueOf(location.substring(location.lastIndexOf('/') + 1));
+	}
+
+	private void alterarStatus(Integer id, int status) throws Exception {
+		mockMvc.perform(patch("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":" + status + "}"))
+				.andExpect(status().isNoContent());
+	}
+
+	/** Aguarda o envio em segundo plano até o conteúdo conter {@code esperado}. */
+	private static String aguardar(MockHttpServletResponse response, String esperado) throws Exception {
+		String conteudo = response.getContentAsString();
+		for (int i = 0; i < 50 && !conteudo.contains(esperado); i++) {
+			Thread.sleep(100);
+			conteudo = response.getContentAsString();
+		}
+		return conteudo;
+	}
+
+	private static String evento(String nome, Integer id) {
+		return "event:" + nome + "\ndata:{\"id\":" + id + ",";
+	}
+
+	@Test
+	void entregaSoOsChamadosDoFiltroERemovidoQuandoSaem() throws Exception {
+		Integer acompanhado = tecnicoRepository.findAll().get(0).getId();
+		TecnicoDTO dto = new TecnicoDTO();
+		dto.setNome("Outro técnico");
+		dto.setCpf("15350946056");
+		dto.setEmail("stream@mail.com");
+		dto.setSenha("123");
+		dto.setPerfis(Set.of(2));
+		Integer outro = tecnicoService.create(dto).getId();
+
+		MockHttpServletResponse response = mockMvc.perform(get("/chamados/stream")
+				.param("tecnico", acompanhado.toString()).param("status", "0"))
+				.andExpect(request().asyncStarted())
+				.andReturn().getResponse();
+
+		Integer doFiltro = criar(acompanhado);
+		Integer foraDoFiltro = criar(outro);
+		alterarStatus(foraDoFiltro, 1);
+		alterarStatus(doFiltro, 1);
+
+		// A distribuição usa mais de uma thread: os dois eventos podem chegar em qualquer ordem
+		aguardar(response, evento("removido", doFiltro));
+		String conteudo = aguardar(response, evento("criado", doFiltro));
+
+		assertTrue(conteudo.contains(evento("criado", doFiltro)), conteudo);
+		assertTrue(conteudo.contains(evento("removido", doFiltro)), conteudo);
+		assertFalse(conteudo.contains(evento("alterado", doFiltro)), conteudo);
+		assertFalse(conteudo.contains("{\"id\":" + foraDoFiltro + ","), conteudo);
+	}
+}
@@ -0,0 +1,112 @@
+package com.turmab.helpdesk.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.enums.Prioridade;
+import com.turmab.helpdesk.domain.enums.Status;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * Versão dos Chamados exposta como ETag: GET condicional (304) e PUT com If-Match (412).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ChamadoResourceVersaoTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private Integer id;
+
+	private Integer versao;
+
+	private String corpo;
+
+	@BeforeEach
+	void setUp() {
+		Tecnico tecnico = tecnicoRepository.findAll().get(0);
+		Cliente cliente = clienteRepository.findAll().get(0);
+		Chamado chamado = chamadoRepository.save(new Chamado(null, Prioridade.BAIXA, Status.ABERTO, "Versão",
+				"original", tecnico, cliente));
+		id = chamado.getId();
+		versao = chamado.getVersion();
+		corpo = "{\"prioridade\":2,\"status\":1,\"titulo\":\"Versão\",\"observacoes\":\"alterado\",\"tecnico\":"
+				+ tecnico.getId() + ",\"cliente\":" + cliente.getId() + "}";
+	}
+
+	private String etag(Integer versao) {
+		return "\"" + versao + "\"";
+	}
+
+	@Test
+	void getRetornaAVersaoComoETag() throws Exception {
+		mockMvc.perform(get("/chamados/{id}", id))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, etag(versao)));
+	}
+
+	@Test
+	void getComIfNoneMatchDaVersaoAtualRetorna304() throws Exception {
+		mockMvc.perform(get("/chamados/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag(versao)))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void getComIfNoneMatchDeOutraVersaoRetorna200() throws Exception {
+		mockMvc.perform(get("/chamados/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag(versao + 1)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void putComIfMatchAtualIncrementaAVersao() throws Exception {
+		mockMvc.perform(put("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, etag(versao)).content(corpo))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, etag(versao + 1)));
+	}
+
+	@Test
+	void putComIfMatchDesatualizadoRetorna412() throws Exception {
+		mockMvc.perform(put("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, etag(versao + 1)).content(corpo))
+				.andExpect(status().isPreconditionFailed());
+
+		assertEquals(versao, chamadoRepository.findDTOById(id).get().getVersion());
+	}
+
+	@Test
+	void putComIfMatchInvalidoRetorna412() throws Exception {
+		mockMvc.perform(put("/chamados/{id}", id).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, "\"abc\"").content(corpo))
+				.andExpect(status().isPreconditionFailed());
+	}
+}
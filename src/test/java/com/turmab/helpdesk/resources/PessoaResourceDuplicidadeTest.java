@@ -0,0 +1,112 @@
+package com.turmab.helpdesk.resources;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.Cliente;
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * CPF e e-mail duplicados recusados pela restrição de unicidade do banco: a resposta é 400
+ * com a mensagem do campo em uso, na criação e na atualização de Técnicos e Clientes.
+ * A base de teste tem o técnico Bill Gates (CPF 765045777093, bill@mail.com) e o cliente
+ * Linus Torvalds (CPF 70511744013, linus@mail.com).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class PessoaResourceDuplicidadeTest {
+
+	private static final String CPF_EM_USO = "CPF já cadastrado no sistema!";
+
+	private static final String EMAIL_EM_USO = "E-mail já cadastrado no sistema!";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	private String corpo(String cpf, String email) {
+		return "{\"nome\":\"Duplicado\",\"cpf\":\"" + cpf + "\",\"email\":\"" + email + "\",\"senha\":\"123\"}";
+	}
+
+	@Test
+	void criarTecnicoComCpfEmUsoRetorna400() throws Exception {
+		mockMvc.perform(post("/tecnicos").contentType(MediaType.APPLICATION_JSON)
+				.content(corpo("765045777093", "novo.tecnico@mail.com")))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(CPF_EM_USO));
+	}
+
+	@Test
+	void criarTecnicoComEmailDeClienteRetorna400() throws Exception {
+		mockMvc.perform(post("/tecnicos").contentType(MediaType.APPLICATION_JSON)
+				.content(corpo("31415926535", "linus@mail.com")))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(EMAIL_EM_USO));
+	}
+
+	@Test
+	void criarClienteComCpfDeTecnicoRetorna400() throws Exception {
+		mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+				.content(corpo("765045777093", "novo.cliente@mail.com")))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(CPF_EM_USO));
+	}
+
+	@Test
+	void criarClienteComEmailEmUsoRetorna400() throws Exception {
+		mockMvc.perform(post("/clientes").contentType(MediaType.APPLICATION_JSON)
+				.content(corpo("27182818284", "bill@mail.com")))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(EMAIL_EM_USO));
+	}
+
+	@Test
+	void atualizarTecnicoParaCpfEmUsoRetorna400() throws Exception {
+		Tecnico tecnico = tecnicoRepository.save(new Tecnico(null, "Atualizado", "16180339887",
+				"atualizado.tecnico@mail.com", "123"));
+
+		mockMvc.perform(put("/tecnicos/{id}", tecnico.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content(corpo("70511744013", "atualizado.tecnico@mail.com")))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(CPF_EM_USO));
+	}
+
+	@Test
+	void atualizarClienteParaEmailEmUsoRetorna400() throws Exception {
+		Cliente cliente = clienteRepository.save(new Cliente(null, "Atualizado", "14142135623",
+				"atualizado.cliente@mail.com", "123"));
+
+		mockMvc.perform(put("/clientes/{id}", cliente.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content(corpo("14142135623", "bill@mail.com")))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(EMAIL_EM_USO));
+	}
+
+	@Test
+	void atualizarMantendoOsProprioCpfEEmailRetorna200() throws Exception {
+		Cliente cliente = clienteRepository.save(new Cliente(null, "Mantido", "17320508075",
+				"mantido.cliente@mail.com", "123"));
+
+		mockMvc.perform(put("/clientes/{id}", cliente.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content(corpo("17320508075", "mantido.cliente@mail.com")))
+				.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,36 @@
+package com.turmab.helpdesk.resources;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Com réplica configurada, a consulta que identifica o CPF ou e-mail duplicado vai ao banco
+ * principal. A réplica aqui é um banco vazio, sem as tabelas: se a consulta fosse para ela,
+ * a resposta seria um erro interno em vez da mensagem do campo duplicado.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:replicatest",
+		"helpdesk.datasource.replica.url=jdbc:h2:mem:replicavazia;DB_CLOSE_DELAY=-1" })
+@AutoConfigureMockMvc
+@WithMockUser
+class PessoaResourceReplicaTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void cpfDuplicadoEhIdentificadoNoBancoPrincipal() throws Exception {
+		mockMvc.perform(post("/tecnicos").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"nome\":\"Duplicado\",\"cpf\":\"765045777093\",\"email\":\"replica@mail.com\",\"senha\":\"123\"}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("CPF já cadastrado no sistema!"));
+	}
+}
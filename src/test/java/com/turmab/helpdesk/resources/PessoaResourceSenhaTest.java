@@ -0,0 +1,40 @@
+package com.turmab.helpdesk.resources;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * O hash da senha de Técnicos e Clientes nunca é devolvido pela API.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class PessoaResourceSenhaTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void listagemDeClientesNaoExpoeASenha() throws Exception {
+		mockMvc.perform(get("/clientes"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].email").exists())
+				.andExpect(jsonPath("$[0].senha").doesNotExist());
+	}
+
+	@Test
+	void listagemDeTecnicosNaoExpoeASenha() throws Exception {
+		mockMvc.perform(get("/tecnicos"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].email").exists())
+				.andExpect(jsonPath("$[0].senha").doesNotExist());
+	}
+}
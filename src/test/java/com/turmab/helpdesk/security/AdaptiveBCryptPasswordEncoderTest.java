@@ -0,0 +1,33 @@
+package com.turmab.helpdesk.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Regravação de senhas pelo custo do BCrypt: apenas hashes mais fracos que o atual.
+ */
+class AdaptiveBCryptPasswordEncoderTest {
+
+	private final AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+	@Test
+	void hashDeCustoMenorDeveSerRegravado() {
+		assertTrue(encoder.upgradeEncoding(new AdaptiveBCryptPasswordEncoder(4).encode("123")));
+	}
+
+	@Test
+	void hashDeCustoIgualOuMaiorEhMantido() {
+		assertFalse(encoder.upgradeEncoding(encoder.encode("123")));
+		assertFalse(encoder.upgradeEncoding(new AdaptiveBCryptPasswordEncoder(6).encode("123")));
+	}
+
+	@Test
+	void valorQueNaoEhHashBCryptNaoEhRegravado() {
+		assertEquals(-1, AdaptiveBCryptPasswordEncoder.custo("senha"));
+		assertFalse(encoder.upgradeEncoding("senha"));
+		assertFalse(encoder.upgradeEncoding(null));
+	}
+}
@@ -0,0 +1,139 @@
+package com.turmab.helpdesk.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.turmab.helpdesk.domain.enums.Perfil;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Validação dos tokens com cache de claims e modo de claims autossuficientes.
+ */
+class JWTUtilTest {
+
+	private static final String SECRET = "segredoDeTeste";
+
+	private static final long MAX_AGE = 60000;
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	private static JWTUtil jwtUtil(long expiration, boolean claims) {
+		JWTUtil jwtUtil = new JWTUtil();
+		ReflectionTestUtils.setField(jwtUtil, "expiration", expiration);
+		ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+		ReflectionTestUtils.setField(jwtUtil, "claimsEnabled", claims);
+		ReflectionTestUtils.setField(jwtUtil, "claimsMaxAge", MAX_AGE);
+		ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaxSize", 100L);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+
+	/** Token assinado com a mesma chave, com emissão e expiração opcionais. */
+	private static String token(Date emissao, Date expiracao) {
+		JwtBuilder builder = Jwts.builder()
+				.setSubject("bill@mail.com")
+				.claim("id", 1)
+				.claim("perfis", Arrays.asList(Perfil.ADMIN.getCodigo()))
+				.signWith(SignatureAlgorithm.HS512, SECRET.getBytes());
+		if (emissao != null) {
+			builder.setIssuedAt(emissao);
+		}
+		if (expiracao != null) {
+			builder.setExpiration(expiracao);
+		}
+		return builder.compact();
+	}
+
+	private static Set<String> authorities(Authentication authentication) {
+		return authentication.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	void tokenExpiradoEhRecusadoMesmoEmCache() throws Exception {
+		// A expiração do JWT tem precisão de segundos: o token vale entre 0,5 e 1,5 s
+		JWTUtil jwtUtil = jwtUtil(1500, false);
+		String token = jwtUtil.generateToken("bill@mail.com");
+		assertNotNull(jwtUtil.parse(token));
+
+		Thread.sleep(2000);
+
+		assertNull(jwtUtil.parse(token));
+	}
+
+	@Test
+	void tokenSemExpiracaoEhRecusado() {
+		JWTUtil jwtUtil = jwtUtil(60000, true);
+
+		assertNull(jwtUtil.parse(token(new Date(), null)));
+	}
+
+	@Test
+	void claimsSemDataDeEmissaoUsamOBanco() {
+		JWTUtil jwtUtil = jwtUtil(60000, true);
+		String token = token(null, new Date(System.currentTimeMillis() + 60000));
+
+		assertNull(jwtUtil.getUserFromClaims(jwtUtil.parse(token)));
+	}
+
+	@Test
+	void claimsMaisAntigasQueMaxAgeUsamOBanco() {
+		JWTUtil jwtUtil = jwtUtil(60000, true);
+		long agora = System.currentTimeMillis();
+		String token = token(new Date(agora - 2 * MAX_AGE), new Date(agora + 60000));
+
+		assertNotNull(jwtUtil.parse(token));
+		assertNull(jwtUtil.getUserFromClaims(jwtUtil.parse(token)));
+	}
+
+	@Test
+	void modoClaimsAutenticaSemConsultarOBanco() throws Exception {
+		JWTUtil jwtUtil = jwtUtil(60000, true);
+		String token = jwtUtil.generateToken(new UserSS(7, "bill@mail.com", "hash",
+				EnumSet.of(Perfil.ADMIN, Perfil.TECNICO)));
+		UserSSCache semBanco = new UserSSCache() {
+			@Override
+			public UserDetails get(String email) {
+				throw new AssertionError("O usuário não deveria ser carregado do banco: " + email);
+			}
+		};
+		JWTAuthorizationFilter filter = new JWTAuthorizationFilter(authentication -> authentication,
+				jwtUtil, semBanco);
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer " + token);
+
+		filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		assertNotNull(authentication);
+		assertEquals("bill@mail.com", authentication.getName());
+		assertEquals(new HashSet<>(Arrays.asList(Perfil.ADMIN.getDescricao(), Perfil.TECNICO.getDescricao())),
+				authorities(authentication));
+	}
+}
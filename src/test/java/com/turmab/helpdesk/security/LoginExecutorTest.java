@@ -0,0 +1,93 @@
+package com.turmab.helpdesk.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pool de login cheio: o /login responde 503 com Retry-After, e volta a aceitar logins
+ * quando o pool se esvazia.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:logintest",
+		"login.executor.threads=1",
+		"login.executor.queue-capacity=1",
+		"login.executor.retry-after-seconds=7" })
+@AutoConfigureMockMvc
+class LoginExecutorTest {
+
+	private static final String CREDENCIAIS = "{\"email\":\"bill@mail.com\",\"senha\":\"123\"}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private LoginExecutor loginExecutor;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void poolCheioRetorna503ComRetryAfter() throws Exception {
+		CountDownLatch liberado = new CountDownLatch(1);
+		AuthenticationManager bloqueado = authentication -> {
+			try {
+				liberado.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return authentication;
+		};
+
+		// Uma verificação ocupa a única thread e outra ocupa a única posição da fila
+		ExecutorService clientes = Executors.newFixedThreadPool(2);
+		List<Future<?>> ocupando = new ArrayList<>();
+		try {
+			for (int i = 0; i < 2; i++) {
+				ocupando.add(clientes.submit(() -> loginExecutor.authenticate(bloqueado,
+						new UsernamePasswordAuthenticationToken("ocupado", "ocupado"))));
+			}
+			double fila = 0;
+			for (int i = 0; i < 100 && fila < 1; i++) {
+				Thread.sleep(20);
+				fila = meterRegistry.get("login.executor.queue").gauge().value();
+			}
+			assertTrue(fila >= 1);
+
+			mockMvc.perform(post("/login").contentType(MediaType.APPLICATION_JSON).content(CREDENCIAIS))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+		} finally {
+			liberado.countDown();
+			for (Future<?> f : ocupando) {
+				f.get(10, TimeUnit.SECONDS);
+			}
+			clientes.shutdown();
+		}
+
+		mockMvc.perform(post("/login").contentType(MediaType.APPLICATION_JSON).content(CREDENCIAIS))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.AUTHORIZATION));
+	}
+}
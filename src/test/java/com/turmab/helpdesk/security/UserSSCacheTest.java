@@ -0,0 +1,112 @@
+package com.turmab.helpdesk.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.turmab.helpdesk.domain.Tecnico;
+import com.turmab.helpdesk.domain.dto.TecnicoDTO;
+import com.turmab.helpdesk.domain.enums.Perfil;
+import com.turmab.helpdesk.service.TecnicoService;
+
+/**
+ * Cache de usuários: alterações de perfis e de senha e a exclusão da pessoa valem já na
+ * autenticação seguinte, sem esperar a expiração da entrada.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:usercachetest")
+@AutoConfigureMockMvc
+class UserSSCacheTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserSSCache userCache;
+
+	@Autowired
+	private TecnicoService tecnicoService;
+
+	@Autowired
+	private BCryptPasswordEncoder encoder;
+
+	/** Cria um técnico, faz login e uma requisição autenticada, que guarda o usuário no cache. */
+	private Tecnico tecnicoEmCache(String cpf, String email) throws Exception {
+		TecnicoDTO dto = new TecnicoDTO();
+		dto.setNome("Em cache");
+		dto.setCpf(cpf);
+		dto.setEmail(email);
+		dto.setSenha("123");
+		dto.setPerfis(Set.of(2));
+		Tecnico tecnico = tecnicoService.create(dto);
+
+		String token = mockMvc.perform(post("/login").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"email\":\"" + email + "\",\"senha\":\"123\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.AUTHORIZATION);
+		mockMvc.perform(get("/tecnicos/{id}", tecnico.getId()).header(HttpHeaders.AUTHORIZATION, token))
+				.andExpect(status().isOk());
+		return tecnico;
+	}
+
+	private static boolean temPerfil(UserDetails user, Perfil perfil) {
+		for (GrantedAuthority authority : user.getAuthorities()) {
+			if (authority.getAuthority().equals(perfil.getDescricao())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Test
+	void alteracaoDePerfisValeNaProximaAutenticacao() throws Exception {
+		Tecnico tecnico = tecnicoEmCache("11144477735", "cache.perfis@mail.com");
+		assertFalse(temPerfil(userCache.get("cache.perfis@mail.com"), Perfil.ADMIN));
+
+		TecnicoDTO dto = new TecnicoDTO(tecnicoService.findById(tecnico.getId()));
+		dto.setPerfis(Set.of(0, 2));
+		tecnicoService.update(tecnico.getId(), dto, null);
+
+		assertTrue(temPerfil(userCache.get("cache.perfis@mail.com"), Perfil.ADMIN));
+	}
+
+	@Test
+	void alteracaoDeSenhaValeNaProximaAutenticacao() throws Exception {
+		Tecnico tecnico = tecnicoEmCache("39053344705", "cache.senha@mail.com");
+		String hashAnterior = userCache.get("cache.senha@mail.com").getPassword();
+
+		TecnicoDTO dto = new TecnicoDTO(tecnicoService.findById(tecnico.getId()));
+		dto.setSenha("nova");
+		tecnicoService.update(tecnico.getId(), dto, null);
+
+		String hash = userCache.get("cache.senha@mail.com").getPassword();
+		assertNotEquals(hashAnterior, hash);
+		assertTrue(encoder.matches("nova", hash));
+	}
+
+	@Test
+	void exclusaoValeNaProximaAutenticacao() throws Exception {
+		Tecnico tecnico = tecnicoEmCache("86288366757", "cache.exclusao@mail.com");
+
+		tecnicoService.delete(tecnico.getId());
+
+		assertThrows(UsernameNotFoundException.class, () -> userCache.get("cache.exclusao@mail.com"));
+	}
+}
@@ -0,0 +1,76 @@
+package com.turmab.helpdesk.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.turmab.helpdesk.domain.Chamado;
+import com.turmab.helpdesk.repositories.ChamadoRepository;
+import com.turmab.helpdesk.repositories.ClienteRepository;
+import com.turmab.helpdesk.repositories.TecnicoRepository;
+
+/**
+ * Massa de dados sintética: quantidades geradas e repetição da mesma massa com a mesma semente.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:geradortest", "helpdesk.seed.batch-size=7", "helpdesk.seed.threads=3",
+		"helpdesk.seed.semente=7" })
+class DBGeradorServiceTest {
+
+	@Autowired
+	private DBGeradorService geradorService;
+
+	@Autowired
+	private ChamadoRepository chamadoRepository;
+
+	@Autowired
+	private TecnicoRepository tecnicoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	/** Gera os chamados e retorna os novos, por título (o título traz o índice do chamado). */
+	private Map<String, String> gerarChamados(int quantidade) {
+		Set<Integer> existentes = chamadoRepository.findAll().stream().map(Chamado::getId)
+				.collect(Collectors.toSet());
+		geradorService.gerar(0, 0, quantidade);
+		Map<String, String> gerados = new HashMap<>();
+		for (Chamado c : chamadoRepository.findAll()) {
+			if (!existentes.contains(c.getId())) {
+				gerados.put(c.getTitulo(), c.getPrioridade() + " " + c.getStatus() + " " + c.getDataAbertura()
+						+ " " + c.getTecnico().getId() + " " + c.getCliente().getId());
+			}
+		}
+		return gerados;
+	}
+
+	@Test
+	void geraAsQuantidadesInformadas() {
+		long tecnicos = tecnicoRepository.count();
+		long clientes = clienteRepository.count();
+		long chamados = chamadoRepository.count();
+
+		geradorService.gerar(3, 4, 20);
+
+		assertEquals(tecnicos + 3, tecnicoRepository.count());
+		assertEquals(clientes + 4, clienteRepository.count());
+		assertEquals(chamados + 20, chamadoRepository.count());
+	}
+
+	@Test
+	void mesmaSementeGeraOsMesmosChamados() {
+		// Sem pessoas geradas, as duas execuções distribuem os chamados entre os mesmos cadastrados
+		Map<String, String> primeira = gerarChamados(30);
+		Map<String, String> segunda = gerarChamados(30);
+
+		assertEquals(30, primeira.size());
+		assertEquals(primeira, segunda);
+	}
+}
@@ -0,0 +1,158 @@
+package com.turmab.helpdesk.service.historico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.turmab.helpdesk.domain.ChamadoHistorico;
+import com.turmab.helpdesk.domain.ChamadoHistorico.Campo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Gravação do histórico em segundo plano: lotes, descarte com a fila cheia e gravação
+ * da fila no encerramento.
+ */
+class ChamadoHistoricoWriterTest {
+
+	/**
+	 * Registra o tamanho de cada lote em vez de gravar. O primeiro lote fica parado até
+	 * {@link #liberar()}, o que segura a thread de gravação enquanto a fila é preenchida.
+	 */
+	private static class JdbcTemplateFalso extends JdbcTemplate {
+
+		private final AtomicBoolean primeiro = new AtomicBoolean(true);
+		private final CountDownLatch gravando = new CountDownLatch(1);
+		private final CountDownLatch liberado = new CountDownLatch(1);
+		private final List<Integer> lotes = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+				ParameterizedPreparedStatementSetter<T> pss) {
+			if (primeiro.compareAndSet(true, false)) {
+				gravando.countDown();
+				try {
+					liberado.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			lotes.add(batchArgs.size());
+			return new int[0][];
+		}
+
+		/** Aguarda a thread de gravação entrar no primeiro lote. */
+		void aguardarGravacao() throws InterruptedException {
+			assertTrue(gravando.await(10, TimeUnit.SECONDS));
+		}
+
+		void liberar() {
+			liberado.countDown();
+		}
+
+		/** Aguarda até que {@code total} registros tenham sido gravados e retorna os lotes. */
+		List<Integer> aguardarLotes(int total) throws InterruptedException {
+			for (int i = 0; i < 100 && soma() < total; i++) {
+				Thread.sleep(50);
+			}
+			synchronized (lotes) {
+				return new ArrayList<>(lotes);
+			}
+		}
+
+		private int soma() {
+			synchronized (lotes) {
+				return lotes.stream().mapToInt(Integer::intValue).sum();
+			}
+		}
+	}
+
+	private final JdbcTemplateFalso jdbcTemplate = new JdbcTemplateFalso();
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private ChamadoHistoricoWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		writer = new ChamadoHistoricoWriter();
+		ReflectionTestUtils.setField(writer, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(writer, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(writer, "queueCapacity", 100);
+		ReflectionTestUtils.setField(writer, "batchSize", 3);
+		ReflectionTestUtils.setField(writer, "offerTimeoutMs", 10L);
+		ReflectionTestUtils.setField(writer, "shutdownTimeoutMs", 50L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.liberar();
+		writer.shutdown();
+	}
+
+	private static ChamadoHistoricoEvento evento(int quantidade) {
+		List<ChamadoHistorico> registros = new ArrayList<>();
+		for (int i = 0; i < quantidade; i++) {
+			registros.add(new ChamadoHistorico(i, Campo.STATUS, "ABERTO", "ANDAMENTO", Instant.now(), null));
+		}
+		return new ChamadoHistoricoEvento(registros);
+	}
+
+	@Test
+	void registrosAcumuladosSaoGravadosEmLotes() throws Exception {
+		writer.init();
+		writer.registrar(evento(1));
+		jdbcTemplate.aguardarGravacao();
+
+		// Enquanto o primeiro lote é gravado, os seguintes se acumulam na fila
+		writer.registrar(evento(7));
+		jdbcTemplate.liberar();
+
+		assertEquals(List.of(1, 3, 3, 1), jdbcTemplate.aguardarLotes(8));
+	}
+
+	@Test
+	void filaCheiaDescartaEContaOsRegistros() throws Exception {
+		ReflectionTestUtils.setField(writer, "queueCapacity", 2);
+		writer.init();
+		writer.registrar(evento(1));
+		jdbcTemplate.aguardarGravacao();
+
+		writer.registrar(evento(5));
+
+		assertEquals(3.0, meterRegistry.get("chamados.historico.dropped").counter().count());
+		jdbcTemplate.liberar();
+		assertEquals(3, jdbcTemplate.aguardarLotes(3).stream().mapToInt(Integer::intValue).sum());
+	}
+
+	@Test
+	void encerramentoGravaOsRegistrosDaFila() throws Exception {
+		writer.init();
+		writer.registrar(evento(1));
+		jdbcTemplate.aguardarGravacao();
+		writer.registrar(evento(5));
+
+		// A thread de gravação continua presa no primeiro lote: a fila é gravada pelo encerramento
+		writer.shutdown();
+
+		assertEquals(List.of(3, 2), jdbcTemplate.aguardarLotes(5));
+		jdbcTemplate.liberar();
+		assertEquals(List.of(3, 2, 1), jdbcTemplate.aguardarLotes(6));
+	}
+}
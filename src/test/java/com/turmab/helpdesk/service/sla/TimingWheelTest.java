@@ -0,0 +1,131 @@
+package com.turmab.helpdesk.service.sla;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Roda de tempo do SLA: vencimento no tick certo em todos os níveis, prazos já vencidos,
+ * prazos além do alcance da roda e cancelamento.
+ */
+class TimingWheelTest {
+
+	/** Ticks de 10 ms, 4 posições por nível e 3 níveis: alcance de 64 ticks (640 ms). */
+	private static final long TICK = 10;
+
+	private TimingWheel<String> roda;
+
+	@BeforeEach
+	void setUp() {
+		roda = new TimingWheel<>(TICK, 4, 3, 0);
+	}
+
+	/** Avança tick a tick até {@code ateMs} e retorna o instante em que o item venceu (-1 se não venceu). */
+	private long venceEm(String item, long ateMs) {
+		for (long agora = TICK; agora <= ateMs; agora += TICK) {
+			List<String> vencidos = roda.advance(agora);
+			if (vencidos.contains(item)) {
+				return agora;
+			}
+		}
+		return -1;
+	}
+
+	@Test
+	void prazoNoNivelZeroVenceNoSeuTick() {
+		roda.schedule("a", 30);
+
+		assertEquals(Collections.emptyList(), roda.advance(20));
+		assertEquals(Collections.singletonList("a"), roda.advance(30));
+		assertEquals(0, roda.size());
+	}
+
+	@Test
+	void prazoDosNiveisSuperioresDesceEmCascataAteVencerNoSeuTick() {
+		roda.schedule("nivel1", 70);
+		roda.schedule("nivel2", 250);
+		roda.schedule("fimDoAlcance", 630);
+
+		assertEquals(70, venceEm("nivel1", 1000));
+		assertEquals(250, venceEm("nivel2", 1000));
+		assertEquals(630, venceEm("fimDoAlcance", 1000));
+		assertEquals(0, roda.size());
+	}
+
+	@Test
+	void avancoDeVariosTicksDeUmaVezDevolveOsVencidosEmOrdem() {
+		roda.schedule("c", 500);
+		roda.schedule("a", 20);
+		roda.schedule("b", 170);
+
+		assertEquals(Arrays.asList("a", "b", "c"), roda.advance(600));
+	}
+
+	@Test
+	void prazoJaVencidoVenceNoProximoTick() {
+		roda.advance(100);
+		roda.schedule("atrasado", 50);
+		roda.schedule("agora", 100);
+
+		List<String> vencidos = roda.advance(110);
+		assertEquals(2, vencidos.size());
+		assertTrue(vencidos.containsAll(Arrays.asList("atrasado", "agora")));
+	}
+
+	@Test
+	void prazoAlemDoAlcanceEhReagendadoAteVencerNoSeuTick() {
+		roda.schedule("distante", 2000);
+		roda.schedule("muitoDistante", 10000);
+
+		assertEquals(2000, venceEm("distante", 20000));
+		assertEquals(1, roda.size());
+		assertEquals(10000, venceEm("muitoDistante", 20000));
+		assertEquals(0, roda.size());
+	}
+
+	@Test
+	void prazoCanceladoNaoVence() {
+		TimingWheel.Timeout<String> cancelado = roda.schedule("cancelado", 250);
+		roda.schedule("mantido", 250);
+
+		assertTrue(roda.cancel(cancelado));
+		assertEquals(1, roda.size());
+		assertEquals(Collections.singletonList("mantido"), roda.advance(300));
+		assertFalse(roda.cancel(cancelado));
+	}
+
+	@Test
+	void prazoVencidoNaoPodeSerCancelado() {
+		TimingWheel.Timeout<String> timeout = roda.schedule("a", 30);
+		roda.advance(30);
+
+		assertFalse(roda.cancel(timeout));
+		assertFalse(roda.cancel(null));
+		assertEquals(0, roda.size());
+	}
+
+	@Test
+	void prazoCanceladoDepoisDaCascataNaoVence() {
+		TimingWheel.Timeout<String> timeout = roda.schedule("a", 250);
+		roda.advance(240);
+
+		assertTrue(roda.cancel(timeout));
+		assertEquals(Collections.emptyList(), roda.advance(1000));
+	}
+
+	@Test
+	void configuracaoInvalidaEhRejeitada() {
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0, 4, 3, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(TICK, 6, 3, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(TICK, 4, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(TICK, 1 << 16, 4, 0));
+	}
+}